@@ -0,0 +1,78 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.dto.post.PostResponse;
+import com.common.dto.ApiResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 목록 응답 ApiResponse&lt;Page&lt;PostResponse&gt;&gt; JSON 직렬화 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private ApiResponse<Page<PostResponse>> response;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostResponse> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> PostResponse.builder()
+                        .id(id)
+                        .title("게시글 제목 " + id)
+                        .content("가".repeat(200) + "...")
+                        .userId(id % 10)
+                        .username("user" + id % 10)
+                        .boardId(1L)
+                        .boardName("자유게시판")
+                        .viewCount(id * 10)
+                        .likeCount((int) id)
+                        .commentCount(0)
+                        .bookmarkCount(0)
+                        .shareCount(0)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .collect(Collectors.toList());
+
+        response = ApiResponse.success(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+}
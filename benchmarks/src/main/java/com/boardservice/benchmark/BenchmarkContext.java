@@ -0,0 +1,190 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.client.UserServiceClient;
+import com.boardservice.config.AsyncConfig;
+import com.boardservice.config.CacheConfig;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.BoardPostCountBuffer;
+import com.boardservice.service.PostContentCache;
+import com.boardservice.service.PostService;
+import com.boardservice.service.UserInfoService;
+import com.boardservice.service.ViewCountBuffer;
+import com.boardservice.service.ViewCountService;
+import com.boardservice.service.ViewHistoryPurgeService;
+import com.boardservice.service.category.BoardCategoryCatalog;
+import com.boardservice.service.ranking.PostLeaderboard;
+import com.boardservice.service.ranking.TrendingRanking;
+import com.boardservice.service.search.PostSearchService;
+import com.boardservice.service.view.TableViewDeduplicator;
+import com.common.dto.ApiResponse;
+import com.common.dto.UserDto;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * H2 기반 벤치마크용 Spring 컨텍스트.
+ * Eureka/Feign/Redis 없이 board-service의 Repository와 서비스만 구성하고,
+ * User Service 호출은 지연 없는 스텁으로 대체합니다.
+ * 리더보드는 비활성화하여 인기글 조회가 SQL 정렬 경로를 측정하도록 합니다.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaAuditing
+@EnableJpaRepositories(basePackageClasses = PostRepository.class)
+@Import({
+        CacheConfig.class,
+        AsyncConfig.class,
+        UserInfoService.class,
+        PostSearchService.class,
+        BoardPostCountBuffer.class,
+        BoardCategoryCatalog.class,
+        PostContentCache.class,
+        PostService.class,
+        PostLeaderboard.class,
+        TrendingRanking.class,
+        ViewCountBuffer.class,
+        TableViewDeduplicator.class,
+        ViewHistoryPurgeService.class,
+        ViewCountService.class
+})
+public class BenchmarkContext {
+
+    /**
+     * 벤치마크마다 독립된 인메모리 DB를 사용하는 컨텍스트 생성.
+     */
+    public static AnnotationConfigApplicationContext start() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("leaderboard.enabled", "false")));
+        context.register(BenchmarkContext.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * "10m", "100ms" 같은 @Value 기간 표기를 Duration으로 변환 (Spring Boot 변환 규칙).
+     */
+    @Bean
+    public static ConversionService conversionService() {
+        return ApplicationConversionService.getSharedInstance();
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.boardservice.entity", "com.common.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"));
+        return factory;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 리더보드 비활성화 상태에서는 연결하지 않는 Redis 템플릿 (빈 의존성 충족용).
+     */
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory() {
+        return new LettuceConnectionFactory();
+    }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * 게시판 카탈로그 무효화 구독용 컨테이너 (Redis 없이 실행하므로 시작하지 않음).
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setAutoStartup(false);
+        return container;
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public UserServiceClient userServiceClient() {
+        return new UserServiceClient() {
+            @Override
+            public ApiResponse<UserResponse> getUser(Long id) {
+                return ApiResponse.success(user(id));
+            }
+
+            @Override
+            public ApiResponse<List<UserResponse>> getUsers(UserBatchRequest request) {
+                return ApiResponse.success(request.getIds().stream()
+                        .map(BenchmarkContext::user)
+                        .collect(Collectors.toList()));
+            }
+
+            /**
+             * 벤치마크 대상 경로에서는 호출되지 않음 (Fallback과 같이 인증 실패로 응답).
+             */
+            @Override
+            public ApiResponse<UserDto> validateToken(String token) {
+                return ApiResponse.error("Token validation is not available in benchmarks");
+            }
+        };
+    }
+
+    private static UserServiceClient.UserResponse user(Long id) {
+        return new UserServiceClient.UserResponse(id, "user" + id, "user" + id + "@example.com");
+    }
+}
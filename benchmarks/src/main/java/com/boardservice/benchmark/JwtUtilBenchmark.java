@@ -0,0 +1,57 @@
+package com.boardservice.benchmark;
+
+import com.common.util.JwtUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증/사용자 ID 추출 벤치마크 (요청마다 실행되는 경로).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil.init(SECRET, 3_600_000L, 86_400_000L);
+        token = JwtUtil.generateAccessToken(1L);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return JwtUtil.validate(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return JwtUtil.getUserId(token);
+    }
+
+    /**
+     * 캐시 미스 경로 (서명 검증 + 클레임 파싱).
+     */
+    @Benchmark
+    public Long verifyUncached() {
+        JwtUtil.getTokenCache().invalidate(token);
+        return JwtUtil.verify(token).userId();
+    }
+}
@@ -0,0 +1,64 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.dto.post.PostResponse;
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.entity.Post;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 DTO 변환 (PostResponse.from / 본문 요약) 벤치마크.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostResponseBenchmark {
+
+    @Param({"100", "10000"})
+    private int contentLength;
+
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        BoardCategory board = BoardCategory.builder()
+                .id(1L)
+                .name("자유게시판")
+                .isActive(true)
+                .postCount(0)
+                .build();
+
+        post = Post.builder()
+                .id(1L)
+                .title("벤치마크 게시글")
+                .content("가".repeat(contentLength))
+                .userId(1L)
+                .board(board)
+                .build();
+    }
+
+    @Benchmark
+    public PostResponse from() {
+        return PostResponse.from(post, "tester");
+    }
+
+    @Benchmark
+    public String excerpt() {
+        return Post.excerptOf(post.getContent());
+    }
+}
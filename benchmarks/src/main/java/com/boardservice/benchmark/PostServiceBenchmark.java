@@ -0,0 +1,113 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.dto.CursorResponse;
+import com.boardservice.dto.post.PostCursor;
+import com.boardservice.dto.post.PostResponse;
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.entity.Post;
+import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.PostService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 목록 조회 벤치마크 (H2).
+ * 같은 위치의 페이지를 offset 방식(getAllPosts)과 커서 방식(getAllPostsByCursor)으로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostServiceBenchmark {
+
+    private static final int POSTS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "400"})
+    private int page;
+
+    private AnnotationConfigApplicationContext context;
+    private PostService postService;
+    private Pageable pageable;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        postService = context.getBean(PostService.class);
+        seed();
+
+        pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (page > 0) {
+            // 직전 페이지의 마지막 게시글을 커서로 사용
+            PostRepository postRepository = context.getBean(PostRepository.class);
+            cursor = PostCursor.from(postRepository.findSummaries(PageRequest.of(page * PAGE_SIZE - 1, 1))
+                    .getContent().get(0)).encode();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PostResponse> getAllPosts() {
+        return postService.getAllPosts(pageable);
+    }
+
+    @Benchmark
+    public CursorResponse<PostResponse> getAllPostsByCursor() {
+        return postService.getAllPostsByCursor(cursor, PAGE_SIZE);
+    }
+
+    private void seed() {
+        BoardCategoryRepository boardCategoryRepository = context.getBean(BoardCategoryRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            BoardCategory board = boardCategoryRepository.save(BoardCategory.builder()
+                    .name("자유게시판")
+                    .isActive(true)
+                    .postCount(0)
+                    .build());
+
+            List<Post> posts = IntStream.range(0, POSTS)
+                    .mapToObj(i -> Post.builder()
+                            .title("게시글 " + i)
+                            .content("본문 ".repeat(500))
+                            .userId((long) (i % 50))
+                            .board(board)
+                            .build())
+                    .collect(Collectors.toList());
+            postRepository.saveAll(posts);
+        });
+    }
+}
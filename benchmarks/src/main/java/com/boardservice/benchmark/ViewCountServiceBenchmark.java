@@ -0,0 +1,69 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.service.ViewCountService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수 증가 벤치마크 (H2, table 중복 판별 전략).
+ * 벤치마크 컨텍스트에서는 @Async가 적용되지 않으므로 요청 스레드에서 동기 실행한 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewCountServiceBenchmark {
+
+    private static final long POSTS = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private AnnotationConfigApplicationContext context;
+    private ViewCountService viewCountService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        viewCountService = context.getBean(ViewCountService.class);
+        viewCountService.incrementViewCount(1L, 1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 오늘 처음 조회 (중복 확인 + 이력 INSERT + 버퍼 누적).
+     */
+    @Benchmark
+    public void firstView() {
+        long next = sequence.incrementAndGet();
+        viewCountService.incrementViewCount(next % POSTS + 1, next);
+    }
+
+    /**
+     * 오늘 이미 조회 (중복 확인만).
+     */
+    @Benchmark
+    public void repeatView() {
+        viewCountService.incrementViewCount(1L, 1L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.boardservice.benchmark;
+
+import com.boardservice.service.view.BloomFilterViewDeduplicator;
+import com.boardservice.service.view.TableViewDeduplicator;
+import com.boardservice.service.view.ViewDeduplicator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 중복 판별 전략 처리량 비교 (table: H2 view_histories, bloom: 메모리).
+ * redis 전략은 Redis가 필요하므로 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewDeduplicatorBenchmark {
+
+    private static final long POSTS = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LocalDate today = LocalDate.now();
+
+    private AnnotationConfigApplicationContext context;
+    private ViewDeduplicator table;
+    private ViewDeduplicator bloom;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        table = context.getBean(TableViewDeduplicator.class);
+        bloom = new BloomFilterViewDeduplicator(10_000_000L, 0.01);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean table() {
+        long next = sequence.incrementAndGet();
+        return table.markFirstView(next % POSTS + 1, next, today);
+    }
+
+    @Benchmark
+    public boolean bloom() {
+        long next = sequence.incrementAndGet();
+        return bloom.markFirstView(next % POSTS + 1, next, today);
+    }
+}
@@ -9,14 +9,22 @@ import lombok.NoArgsConstructor;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.List;
+import java.util.Set;
+
 @FeignClient(name = "user-service", url = "http://localhost:8080", fallbackFactory = UserServiceClientFallbackFactory.class)
 public interface UserServiceClient {
 
     @GetMapping("/api/users/{id}")
     ApiResponse<UserResponse> getUser(@PathVariable("id") Long id);
 
+    @PostMapping("/api/users/batch")
+    ApiResponse<List<UserResponse>> getUsers(@RequestBody UserBatchRequest request);
+
     @GetMapping("/api/users/validate")
     ApiResponse<UserDto> validateToken(@RequestHeader("Authorization") String token);
 
@@ -29,4 +37,11 @@ public interface UserServiceClient {
         private String username;
         private String email;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class UserBatchRequest {
+        private Set<Long> ids;
+    }
 }
@@ -1,11 +1,14 @@
 package com.boardservice.client;
 
+import com.boardservice.service.UserInfoService;
 import com.common.dto.ApiResponse;
 import com.common.dto.UserDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class UserServiceClientFallbackFactory implements FallbackFactory<UserServiceClient> {
@@ -16,15 +19,21 @@ public class UserServiceClientFallbackFactory implements FallbackFactory<UserSer
             @Override
             public ApiResponse<UserResponse> getUser(Long id) {
                 log.error("User Service getUser failed for id: {}. Cause: {}", id, cause.getMessage());
-                // Fallback: Return "Unknown User"
+                // Fallback: id 없는 Unknown 사용자 (id가 null이면 fallback 응답으로 보고 캐시하지 않음)
                 UserResponse fallbackUser = UserResponse.builder()
-                        .id(id)
-                        .username("Unknown User")
+                        .username(UserInfoService.UNKNOWN_USERNAME)
                         .email("")
                         .build();
                 return ApiResponse.success(fallbackUser);
             }
 
+            @Override
+            public ApiResponse<List<UserResponse>> getUsers(UserBatchRequest request) {
+                log.error("User Service getUsers failed for ids: {}. Cause: {}", request.getIds(), cause.getMessage());
+                // Fallback: 빈 목록 (조회되지 않은 id는 호출 측에서 Unknown 처리)
+                return ApiResponse.success(List.of());
+            }
+
             @Override
             public ApiResponse<UserDto> validateToken(String token) {
                 log.error("User Service validateToken failed. Cause: {}", cause.getMessage());
@@ -1,6 +1,7 @@
 package com.boardservice.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,4 +30,24 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 작성자 정보 원격 조회 전용 Executor.
+     * 게시글 상세 조회의 User Service 호출을 요청 스레드 밖에서 수행해 조회 시간 상한을 적용합니다.
+     * 대기열이 가득 차면 작업을 거절하고 (요청 스레드에서 실행하면 시간 상한이 적용되지 않음),
+     * 호출 측은 Unknown으로 응답합니다.
+     *
+     * @return Executor
+     */
+    @Bean(name = "userLookupExecutor")
+    public Executor userLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);
+        executor.setMaxPoolSize(20);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("user-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
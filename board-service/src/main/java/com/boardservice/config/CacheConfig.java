@@ -0,0 +1,64 @@
+package com.boardservice.config;
+
+import com.boardservice.client.UserServiceClient;
+import com.boardservice.dto.post.PostContent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 캐시 설정.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * User Service 사용자 정보 캐시 (W-TinyLFU 크기 제한 + TTL).
+     * 적중/미스/축출 지표는 Actuator의 cache.* 메트릭(cache=users)으로 노출됩니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param maximumSize 최대 캐시 항목 수
+     * @param expireAfterWrite 항목 만료 시간
+     * @return 사용자 ID를 키로 하는 캐시
+     */
+    @Bean
+    public Cache<Long, UserServiceClient.UserResponse> userCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.users.maximum-size:10000}") long maximumSize,
+            @Value("${cache.users.expire-after-write:10m}") Duration expireAfterWrite) {
+        Cache<Long, UserServiceClient.UserResponse> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * 게시글 상세 본문 캐시 (본문 길이 기반 가중치 제한).
+     * 적중/미스/축출 지표는 cache.* 메트릭(cache=postContents)으로 노출됩니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param maximumWeight 캐시 전체의 최대 문자 수 (제목 + 본문)
+     * @return 게시글 ID를 키로 하는 캐시
+     */
+    @Bean
+    public Cache<Long, PostContent> postContentCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.post-contents.maximum-weight:20000000}") long maximumWeight) {
+        Cache<Long, PostContent> cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long postId, PostContent content) -> content.weight())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "postContents");
+    }
+}
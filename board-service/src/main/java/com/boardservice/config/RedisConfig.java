@@ -0,0 +1,24 @@
+package com.boardservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정.
+ */
+@Configuration
+public class RedisConfig {
+
+    /**
+     * 인스턴스 간 로컬 캐시 무효화 메시지 수신용 리스너 컨테이너.
+     * Redis 연결이 끊기면 컨테이너가 재구독을 계속 시도합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -1,5 +1,6 @@
 package com.boardservice.controller;
 
+import com.boardservice.dto.CursorResponse;
 import com.boardservice.dto.comment.CommentResponse;
 import com.boardservice.dto.comment.CreateCommentRequest;
 import com.boardservice.dto.comment.UpdateCommentRequest;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,7 +29,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -40,6 +48,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final JsonMapper jsonMapper;
 
     /**
      * 댓글 작성.
@@ -64,6 +73,31 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    /**
+     * 게시글의 댓글 목록 조회 (커서 기반, 작성 순).
+     */
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<CommentResponse> responses = commentService.getCommentsByCursor(postId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    /**
+     * 게시글의 댓글 전체를 NDJSON으로 스트리밍 (한 줄에 댓글 하나).
+     * 응답 시간 상한은 spring.mvc.async.request-timeout을 따릅니다.
+     */
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable Long postId) {
+        StreamingResponseBody body = out -> commentService.streamComments(postId, comment -> writeLine(out, comment));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 내가 작성한 댓글 목록 조회.
      */
@@ -103,4 +137,13 @@ public class CommentController {
         commentService.deleteComment(userId, id);
         return ResponseEntity.ok(ApiResponse.success("댓글이 삭제되었습니다.", null));
     }
+
+    private void writeLine(OutputStream out, CommentResponse comment) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(comment));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
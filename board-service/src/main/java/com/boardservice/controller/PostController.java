@@ -1,8 +1,13 @@
 package com.boardservice.controller;
 
+import com.boardservice.dto.CursorResponse;
 import com.boardservice.dto.post.CreatePostRequest;
 import com.boardservice.dto.post.PostDetailResponse;
+import com.boardservice.dto.post.PostDetailVersion;
+import com.boardservice.dto.post.PostPageVersion;
 import com.boardservice.dto.post.PostResponse;
+import com.boardservice.dto.post.PostSearchResponse;
+import com.boardservice.dto.post.PostSummary;
 import com.boardservice.dto.post.UpdatePostRequest;
 import com.boardservice.service.PostService;
 import com.boardservice.service.ViewCountService;
@@ -29,6 +34,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 게시글 컨트롤러.
@@ -56,33 +62,74 @@ public class PostController {
 
     /**
      * 전체 게시글 목록 조회 (페이징).
+     * 요약 페이지로 ETag/Last-Modified를 계산해 변경이 없으면 작성자명 조회 없이 304를 반환합니다.
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<PostResponse>>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            WebRequest webRequest) {
 
         Pageable pageable = PageRequest.of(page, size,
                 Sort.Direction.fromString(direction), sort);
 
-        Page<PostResponse> responses = postService.getAllPosts(pageable);
+        Page<PostSummary> summaries = postService.getAllPostSummaries(pageable);
+        PostPageVersion version = PostPageVersion.of(summaries);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        Page<PostResponse> responses = postService.toResponses(summaries);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    /**
+     * 전체 게시글 목록 조회 (커서 기반 - 깊은 스크롤용).
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getAllPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<PostResponse> responses = postService.getAllPostsByCursor(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
     /**
      * 게시판별 게시글 목록 조회.
+     * 요약 페이지로 ETag/Last-Modified를 계산해 변경이 없으면 작성자명 조회 없이 304를 반환합니다.
      */
     @GetMapping("/board-categories/{boardId}")
     public ResponseEntity<ApiResponse<Page<PostResponse>>> getPostsByBoard(
             @PathVariable Long boardId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<PostResponse> responses = postService.getPostsByBoard(boardId, pageable);
+        Page<PostSummary> summaries = postService.getPostSummariesByBoard(boardId, pageable);
+        PostPageVersion version = PostPageVersion.of(summaries);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        Page<PostResponse> responses = postService.toResponses(summaries);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    /**
+     * 게시판별 게시글 목록 조회 (커서 기반).
+     */
+    @GetMapping("/board-categories/{boardId}/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getPostsByBoardByCursor(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<PostResponse> responses = postService.getPostsByBoardByCursor(boardId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
@@ -101,15 +148,37 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    /**
+     * 내가 작성한 게시글 목록 조회 (커서 기반).
+     */
+    @GetMapping("/users/me/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getMyPostsByCursor(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<PostResponse> responses = postService.getPostsByUserByCursor(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
     /**
      * 게시글 상세 조회 (조회수 증가).
+     * 클라이언트의 ETag와 일치하면 본문/작성자명 조회 없이 304를 반환합니다 (조회수는 동일하게 반영).
+     * 버전(수정 시각, 카운터, 좋아요/북마크 여부)은 한 번만 읽어 ETag와 응답 본문에 함께 사용합니다.
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostDetailResponse>> getPost(
             @PathVariable Long id,
-            @AuthenticationPrincipal(errorOnInvalidType = false) Long userId) {
+            @AuthenticationPrincipal(errorOnInvalidType = false) Long userId,
+            WebRequest webRequest) {
 
-        PostDetailResponse response = postService.getPost(id, userId);
+        PostDetailVersion version = postService.getPostVersion(id, userId);
+        if (webRequest.checkNotModified(version.toETag())) {
+            viewCountService.incrementViewCount(id, userId);
+            return null;
+        }
+
+        PostDetailResponse response = postService.toDetailResponse(version);
 
         viewCountService.incrementViewCount(id, userId);
 
@@ -142,45 +211,64 @@ public class PostController {
     }
 
     /**
-     * 인기 게시글 조회 (좋아요 기준).
+     * 인기 게시글 조회 (좋아요 기준, boardId 지정 시 게시판별).
+     * 리더보드 상위 N건 안에서 페이지를 반환합니다.
      */
     @GetMapping("/popular/likes")
     public ResponseEntity<ApiResponse<Page<PostResponse>>> getPopularPostsByLikes(
+            @RequestParam(required = false) Long boardId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<PostResponse> responses = postService.getPopularPostsByLikes(pageable);
+        Page<PostResponse> responses = postService.getPopularPostsByLikes(boardId, pageable);
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
     /**
-     * 인기 게시글 조회 (조회수 기준).
+     * 인기 게시글 조회 (조회수 기준, boardId 지정 시 게시판별).
+     * 리더보드 상위 N건 안에서 페이지를 반환합니다.
      */
     @GetMapping("/popular/views")
     public ResponseEntity<ApiResponse<Page<PostResponse>>> getPopularPostsByViews(
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+
+        Page<PostResponse> responses = postService.getPopularPostsByViews(boardId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    /**
+     * 트렌딩 게시글 조회 (시간 감쇠 점수 순, boardId 지정 시 게시판별).
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<Page<PostResponse>>> getTrendingPosts(
+            @RequestParam(required = false) Long boardId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<PostResponse> responses = postService.getPopularPostsByViews(pageable);
+        Page<PostResponse> responses = postService.getTrendingPosts(boardId, pageable);
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
     /**
-     * 게시글 검색.
+     * 게시글 검색 (관련도 순, 하이라이트 포함).
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PostResponse>>> searchPosts(
+    public ResponseEntity<ApiResponse<Page<PostSearchResponse>>> searchPosts(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<PostResponse> responses = postService.searchPosts(keyword, pageable);
+        Page<PostSearchResponse> responses = postService.searchPosts(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 }
@@ -0,0 +1,33 @@
+package com.boardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 DTO.
+ * 전체 건수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 마지막 페이지이면 null
+
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
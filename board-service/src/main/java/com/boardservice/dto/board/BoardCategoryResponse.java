@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * 게시판 카테고리 응답 DTO.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardCategoryResponse {
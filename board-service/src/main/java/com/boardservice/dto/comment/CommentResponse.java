@@ -41,4 +41,20 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 목록 projection으로부터 DTO 생성.
+     */
+    public static CommentResponse from(CommentSummary comment, String username) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .userId(comment.getUserId())
+                .username(username)
+                .postId(comment.getPostId())
+                .isDeleted(comment.getIsDeleted())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,23 @@
+package com.boardservice.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용 projection.
+ * 엔티티 대신 조회하므로 영속성 컨텍스트에 쌓이지 않아, 스트리밍 조회 시 메모리 사용량이 댓글 수와 무관합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentSummary {
+
+    private final Long id;
+    private final String content;
+    private final Long userId;
+    private final Long postId;
+    private final Boolean isDeleted;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
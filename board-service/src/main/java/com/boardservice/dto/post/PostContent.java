@@ -0,0 +1,40 @@
+package com.boardservice.dto.post;
+
+import com.boardservice.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세의 변경이 드문 부분 (제목, 본문, 작성자, 게시판).
+ * 자주 바뀌는 카운터({@link PostVersion})와 분리하여 캐시합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostContent {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long userId;
+    private final Long boardId;
+    private final String boardName;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 엔티티로부터 생성 (게시판은 fetch join 되어 있어야 함).
+     */
+    public static PostContent from(Post post) {
+        return new PostContent(post.getId(), post.getTitle(), post.getContent(), post.getUserId(),
+                post.getBoard().getId(), post.getBoard().getName(), post.getCreatedAt(), post.getUpdatedAt());
+    }
+
+    /**
+     * 캐시 가중치 (제목 + 본문 길이).
+     */
+    public int weight() {
+        return title.length() + content.length();
+    }
+}
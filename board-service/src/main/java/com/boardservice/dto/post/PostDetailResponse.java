@@ -58,6 +58,31 @@ public class PostDetailResponse {
                 .build();
     }
 
+    /**
+     * 캐시된 본문과 현재 카운터, 요청별 좋아요/북마크 여부로 DTO 생성.
+     */
+    public static PostDetailResponse of(PostContent content, PostDetailVersion state, String username) {
+        PostVersion counters = state.getVersion();
+        return PostDetailResponse.builder()
+                .id(content.getId())
+                .title(content.getTitle())
+                .content(content.getContent())
+                .userId(content.getUserId())
+                .username(username)
+                .boardId(content.getBoardId())
+                .boardName(content.getBoardName())
+                .viewCount(counters.getViewCount())
+                .likeCount(counters.getLikeCount())
+                .commentCount(counters.getCommentCount())
+                .bookmarkCount(counters.getBookmarkCount())
+                .shareCount(counters.getShareCount())
+                .isLiked(state.isLiked())
+                .isBookmarked(state.isBookmarked())
+                .createdAt(content.getCreatedAt())
+                .updatedAt(content.getUpdatedAt())
+                .build();
+    }
+
     /**
      * 비로그인 사용자용 (isLiked, isBookmarked = false).
      */
@@ -0,0 +1,33 @@
+package com.boardservice.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 ETag/응답 계산용 요청별 상태.
+ * 모든 사용자가 공유하는 버전(수정 시각, 카운터)에 현재 사용자의 좋아요/북마크 여부를 더합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailVersion {
+
+    private final PostVersion version;
+    private final boolean liked;
+    private final boolean bookmarked;
+
+    /**
+     * 비로그인 사용자용 (좋아요/북마크 여부 false).
+     */
+    public static PostDetailVersion anonymous(PostVersion version) {
+        return new PostDetailVersion(version, false, false);
+    }
+
+    /**
+     * 강한 ETag 생성 (사용자별 여부 포함).
+     *
+     * @return 따옴표로 감싼 ETag
+     */
+    public String toETag() {
+        return version.toETag(liked, bookmarked);
+    }
+}
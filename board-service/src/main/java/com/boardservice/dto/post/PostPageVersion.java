@@ -0,0 +1,55 @@
+package com.boardservice.dto.post;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 목록 페이지의 검증자 (ETag, Last-Modified).
+ * Last-Modified는 페이지 내 가장 최근 수정 시각이며, 삭제나 카운터 변경은 수정 시각을 바꾸지 않으므로
+ * 전체 건수와 각 행의 카운터까지 반영한 ETag를 함께 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostPageVersion {
+
+    private final String eTag;
+    private final long lastModified;
+
+    /**
+     * 요약 페이지로부터 검증자를 계산합니다.
+     *
+     * @param page 게시글 요약 페이지
+     * @return 페이지 검증자 (빈 페이지면 lastModified = -1)
+     */
+    public static PostPageVersion of(Page<PostSummary> page) {
+        StringBuilder version = new StringBuilder()
+                .append(page.getTotalElements()).append('/')
+                .append(page.getNumber()).append('/')
+                .append(page.getSize());
+        LocalDateTime newest = null;
+        for (PostSummary post : page.getContent()) {
+            version.append('|').append(post.getId())
+                    .append(':').append(post.getUpdatedAt())
+                    .append(':').append(post.getViewCount())
+                    .append(':').append(post.getLikeCount())
+                    .append(':').append(post.getCommentCount())
+                    .append(':').append(post.getBookmarkCount())
+                    .append(':').append(post.getShareCount());
+            if (post.getUpdatedAt() != null && (newest == null || post.getUpdatedAt().isAfter(newest))) {
+                newest = post.getUpdatedAt();
+            }
+        }
+
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModified = newest != null ? newest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        return new PostPageVersion(eTag, lastModified);
+    }
+}
@@ -36,14 +36,21 @@ public class PostResponse {
      * 엔티티로부터 DTO 생성 (content 요약).
      */
     public static PostResponse from(Post post, String username) {
+        return from(post, username, post.getBoard().getName());
+    }
+
+    /**
+     * 엔티티로부터 DTO 생성 (게시판명을 별도로 전달하여 게시판 프록시를 초기화하지 않음).
+     */
+    public static PostResponse from(Post post, String username, String boardName) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(truncate(post.getContent(), 200))
+                .content(Post.excerptOf(post.getContent()))
                 .userId(post.getUserId())
                 .username(username)
                 .boardId(post.getBoard().getId())
-                .boardName(post.getBoard().getName())
+                .boardName(boardName)
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
@@ -55,15 +62,24 @@ public class PostResponse {
     }
 
     /**
-     * 문자열을 지정한 길이로 자르기.
+     * 목록 projection으로부터 DTO 생성 (저장된 excerpt 사용).
      */
-    private static String truncate(String content, int maxLength) {
-        if (content == null) {
-            return null;
-        }
-        if (content.length() <= maxLength) {
-            return content;
-        }
-        return content.substring(0, maxLength) + "...";
+    public static PostResponse from(PostSummary summary, String username) {
+        return PostResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .content(summary.getExcerpt())
+                .userId(summary.getUserId())
+                .username(username)
+                .boardId(summary.getBoardId())
+                .boardName(summary.getBoardName())
+                .viewCount(summary.getViewCount())
+                .likeCount(summary.getLikeCount())
+                .commentCount(summary.getCommentCount())
+                .bookmarkCount(summary.getBookmarkCount())
+                .shareCount(summary.getShareCount())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
     }
 }
@@ -0,0 +1,24 @@
+package com.boardservice.dto.post;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 검색 응답 DTO.
+ * 목록 필드(PostResponse)에 관련도 점수와 하이라이트를 덧붙입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponse {
+
+    @JsonUnwrapped
+    private PostResponse post;
+    private Double score;             // LIKE 검색으로 대체된 경우 null
+    private String titleHighlight;    // HTML 이스케이프 + <em> 강조
+    private String contentHighlight;  // 일치 구간 주변 요약 + <em> 강조
+}
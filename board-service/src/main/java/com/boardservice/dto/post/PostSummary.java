@@ -0,0 +1,29 @@
+package com.boardservice.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection.
+ * 본문(@Lob content) 대신 미리 계산된 excerpt만 조회하고, 게시판명을 같은 쿼리에서 조인합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final Long userId;
+    private final Long boardId;
+    private final String boardName;
+    private final Long viewCount;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Integer bookmarkCount;
+    private final Integer shareCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.boardservice.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 ETag 계산용 projection.
+ * 본문과 게시판 조인 없이 작성자 ID, 수정 시각과 카운터만 조회합니다.
+ * 작성자 ID는 본문 로드와 작성자명 원격 조회를 동시에 시작하기 위해 포함합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersion {
+
+    private final Long id;
+    private final Long userId;
+    private final LocalDateTime updatedAt;
+    private final Long viewCount;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Integer bookmarkCount;
+    private final Integer shareCount;
+
+    /**
+     * 강한 ETag 생성. 사용자별 좋아요/북마크 여부도 응답에 포함되므로 함께 반영합니다.
+     *
+     * @param liked 현재 사용자의 좋아요 여부
+     * @param bookmarked 현재 사용자의 북마크 여부
+     * @return 따옴표로 감싼 ETag
+     */
+    public String toETag(boolean liked, boolean bookmarked) {
+        String version = id + ":" + updatedAt + ":" + viewCount + ":" + likeCount + ":" + commentCount
+                + ":" + bookmarkCount + ":" + shareCount + ":" + liked + ":" + bookmarked;
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -3,17 +3,21 @@ package com.boardservice.entity;
 import com.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 게시글 엔티티 (기존 Board의 역할을 대체)
+ * 카운터 컬럼은 Repository의 원자적 UPDATE로만 갱신하므로, 제목/내용 수정 시 변경된 컬럼만 UPDATE 합니다.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "posts", indexes = {
         @Index(name = "idx_board_created", columnList = "board_id, created_at"),
-        @Index(name = "idx_user_id", columnList = "user_id")
+        @Index(name = "idx_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_created", columnList = "created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,6 +25,11 @@ import java.util.List;
 @Builder
 public class Post extends BaseTimeEntity {
 
+    /**
+     * 목록용 요약 길이
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,6 +47,12 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 목록용 요약 (content 앞 200자, 저장/수정 시 갱신)
+     */
+    @Column(length = EXCERPT_LENGTH + 3)
+    private String excerpt;
+
     /**
      * 작성자 ID (User Service의 User ID)
      */
@@ -123,64 +138,21 @@ public class Post extends BaseTimeEntity {
     }
 
     /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    /**
-     * 좋아요 수 증가
-     */
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    /**
-     * 댓글 수 증가
-     */
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    /**
-     * 댓글 수 감소
-     */
-    public void decrementCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
-
-    /**
-     * 북마크 수 증가
+     * 요약 갱신 (목록 조회 시 본문을 읽지 않도록 저장 시점에 계산)
      */
-    public void incrementBookmarkCount() {
-        this.bookmarkCount++;
+    @PrePersist
+    @PreUpdate
+    void refreshExcerpt() {
+        this.excerpt = excerptOf(this.content);
     }
 
     /**
-     * 북마크 수 감소
+     * 내용을 목록용 요약 길이로 자르기
      */
-    public void decrementBookmarkCount() {
-        if (this.bookmarkCount > 0) {
-            this.bookmarkCount--;
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
         }
-    }
-
-    /**
-     * 공유 수 증가
-     */
-    public void incrementShareCount() {
-        this.shareCount++;
+        return content.substring(0, EXCERPT_LENGTH) + "...";
     }
 }
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "view_histories", indexes = {
-        @Index(name = "idx_post_user_date", columnList = "post_id, user_id, view_date")
+        @Index(name = "idx_post_user_date", columnList = "post_id, user_id, view_date"),
+        @Index(name = "idx_view_date", columnList = "view_date")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
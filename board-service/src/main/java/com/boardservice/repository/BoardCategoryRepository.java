@@ -11,7 +11,7 @@ import java.util.Optional;
  * 게시판 카테고리 Repository.
  */
 @Repository
-public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Long> {
+public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Long>, BoardCategoryRepositoryCustom {
 
     /**
      * 이름으로 게시판 조회.
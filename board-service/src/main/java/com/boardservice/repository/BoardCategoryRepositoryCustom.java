@@ -0,0 +1,16 @@
+package com.boardservice.repository;
+
+import java.util.Map;
+
+/**
+ * 게시판 카테고리 Repository 확장 (JDBC 배치 작업).
+ */
+public interface BoardCategoryRepositoryCustom {
+
+    /**
+     * 게시글 수 일괄 가감 (JDBC batch UPDATE, 0으로 자르지 않으며 일시적인 음수는 조회 시 0으로 표시).
+     *
+     * @param deltas 게시판 ID별 증감량
+     */
+    void addPostCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,43 @@
+package com.boardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 게시판 카테고리 Repository 확장 구현.
+ */
+@RequiredArgsConstructor
+public class BoardCategoryRepositoryCustomImpl implements BoardCategoryRepositoryCustom {
+
+    private static final String ADD_POST_COUNT_SQL =
+            "UPDATE board_categories SET post_count = post_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 수 일괄 가감.
+     * 게시판 ID 순으로 정렬하여 갱신 (여러 인스턴스 동시 flush 시 교착 상태 방지).
+     * 인스턴스마다 flush 시점이 달라 감소분이 증가분보다 먼저 반영될 수 있으므로 0으로 자르지 않습니다
+     * (자르면 잘린 만큼 영구히 어긋남). 일시적인 음수는 조회 시 0으로 표시합니다.
+     */
+    @Override
+    @Transactional
+    public void addPostCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        jdbcTemplate.batchUpdate(ADD_POST_COUNT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
@@ -1,12 +1,21 @@
 package com.boardservice.repository;
 
+import com.boardservice.dto.comment.CommentSummary;
 import com.boardservice.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 댓글 Repository.
@@ -14,11 +23,50 @@ import java.util.List;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 목록용 요약 projection (엔티티를 영속성 컨텍스트에 올리지 않음).
+     */
+    String SUMMARY_SELECT = "SELECT new com.boardservice.dto.comment.CommentSummary(c.id, c.content, c.userId, "
+            + "c.post.id, c.isDeleted, c.createdAt, c.updatedAt) FROM Comment c ";
+
+    /**
+     * 스트리밍 조회 fetch size.
+     * MySQL Connector/J는 Integer.MIN_VALUE일 때 해당 쿼리만 행 단위로 스트리밍합니다
+     * (URL에 useCursorFetch=true를 두면 모든 쿼리가 서버 측 prepared statement로 바뀌므로 사용하지 않음).
+     */
+    String STREAM_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
     /**
      * 게시글의 댓글 목록 조회 (삭제되지 않은 것만, 생성일 오름차순).
      */
     List<Comment> findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(Long postId);
 
+    /**
+     * 게시글의 댓글 커서 조회 - 첫 페이지 (idx_post_created 사용, created_at, id 오름차순).
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId AND c.isDeleted = false "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummary> findFirstByPostId(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * 게시글의 댓글 커서 조회 - 커서 이후 페이지.
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId AND c.isDeleted = false "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummary> findByPostIdAfter(@Param("postId") Long postId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * 게시글의 댓글 전체를 스크롤 결과로 조회 (트랜잭션 안에서 소비 후 닫아야 함).
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId AND c.isDeleted = false "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<CommentSummary> streamByPostId(@Param("postId") Long postId);
+
     /**
      * 게시글의 댓글 수 조회 (삭제되지 않은 것만).
      */
@@ -1,13 +1,20 @@
 package com.boardservice.repository;
 
+import com.boardservice.dto.interaction.PostStatsResponse;
+import com.boardservice.dto.post.PostSummary;
+import com.boardservice.dto.post.PostVersion;
 import com.boardservice.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,22 +22,102 @@ import java.util.Optional;
  * 게시글 Repository.
  */
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     /**
-     * 전체 게시글 조회 (최신순).
+     * 목록용 요약 projection (본문 대신 excerpt, 게시판명은 같은 쿼리에서 조인).
      */
-    Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.boardservice.dto.post.PostSummary(p.id, p.title, p.excerpt, p.userId, "
+            + "b.id, b.name, p.viewCount, p.likeCount, p.commentCount, p.bookmarkCount, p.shareCount, "
+            + "p.createdAt, p.updatedAt) FROM Post p JOIN p.board b ";
 
     /**
-     * 게시판별 게시글 조회 (최신순).
+     * 게시글 상세 ETag 계산용 버전 조회 (본문 제외).
      */
-    Page<Post> findByBoardIdOrderByCreatedAtDesc(Long boardId, Pageable pageable);
+    @Query("SELECT new com.boardservice.dto.post.PostVersion(p.id, p.userId, p.updatedAt, p.viewCount, p.likeCount, "
+            + "p.commentCount, p.bookmarkCount, p.shareCount) FROM Post p WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
 
     /**
-     * 사용자별 게시글 조회 (최신순).
+     * 게시글 통계와 현재 사용자의 좋아요/북마크 여부를 한 번에 조회 (본문 제외, 비로그인 시 userId는 null).
      */
-    Page<Post> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query("SELECT new com.boardservice.dto.interaction.PostStatsResponse(p.id, p.viewCount, p.likeCount, "
+            + "p.commentCount, p.bookmarkCount, p.shareCount, "
+            + "CASE WHEN EXISTS (SELECT 1 FROM PostLike l WHERE l.post.id = p.id AND l.userId = :userId) "
+            + "THEN true ELSE false END, "
+            + "CASE WHEN EXISTS (SELECT 1 FROM Bookmark b WHERE b.post.id = p.id AND b.userId = :userId) "
+            + "THEN true ELSE false END) "
+            + "FROM Post p WHERE p.id = :id")
+    Optional<PostStatsResponse> findStatsById(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 전체 게시글 요약 조회 (최신순).
+     */
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 게시판별 게시글 요약 조회 (최신순).
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE b.id = :boardId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId")
+    Page<PostSummary> findSummariesByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 사용자별 게시글 요약 조회 (최신순).
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.userId = :userId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.userId = :userId")
+    Page<PostSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 전체 게시글 커서 조회 - 첫 페이지 (created_at, id 내림차순).
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatest(Limit limit);
+
+    /**
+     * 전체 게시글 커서 조회 - 커서 이후 페이지.
+     */
+    @Query(SUMMARY_SELECT
+            + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * 게시판별 게시글 커서 조회 - 첫 페이지 (idx_board_created 사용).
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.id = :boardId "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestByBoardId(@Param("boardId") Long boardId, Limit limit);
+
+    /**
+     * 게시판별 게시글 커서 조회 - 커서 이후 페이지 (idx_board_created 사용).
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.id = :boardId "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestByBoardIdBefore(@Param("boardId") Long boardId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
+
+    /**
+     * 사용자별 게시글 커서 조회 - 첫 페이지 (idx_user_created 사용).
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :userId "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 사용자별 게시글 커서 조회 - 커서 이후 페이지 (idx_user_created 사용).
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.userId = :userId "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestByUserIdBefore(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
 
     /**
      * 게시글 상세 조회 (Board fetch join - N+1 방지).
@@ -44,6 +131,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p JOIN FETCH p.board ORDER BY p.createdAt DESC")
     List<Post> findAllWithBoard();
 
+    /**
+     * ID 목록으로 게시글 조회 (Board fetch join - 검색 결과 로딩용).
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.board WHERE p.id IN :ids")
+    List<Post> findAllWithBoardByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 게시판별 게시글 수 조회.
      */
@@ -55,18 +148,106 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     long countByUserId(Long userId);
 
     /**
-     * 검색 (제목 + 내용).
+     * 검색 (제목 + 내용, LIKE - 전문 검색 대체용).
      */
     @Query("SELECT p FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% ORDER BY p.createdAt DESC")
     Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 인기 게시글 (좋아요 기준).
+     * 인기 게시글 요약 (좋아요 기준).
+     */
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.likeCount DESC, p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findPopularSummariesByLikes(Pageable pageable);
+
+    /**
+     * 인기 게시글 요약 (조회수 기준).
+     */
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.viewCount DESC, p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findPopularSummariesByViews(Pageable pageable);
+
+    /**
+     * 지정한 게시글 요약 조회 (리더보드 순서 정렬은 호출 측에서 수행).
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시판별 인기 게시글 요약 (좋아요 기준).
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE b.id = :boardId ORDER BY p.likeCount DESC, p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId")
+    Page<PostSummary> findPopularSummariesByBoardIdByLikes(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 게시판별 인기 게시글 요약 (조회수 기준).
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE b.id = :boardId ORDER BY p.viewCount DESC, p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId")
+    Page<PostSummary> findPopularSummariesByBoardIdByViews(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 리더보드 증분 갱신용 좋아요 수.
+     */
+    @Query("SELECT new com.boardservice.repository.PostScore(p.id, p.board.id, p.likeCount) "
+            + "FROM Post p WHERE p.id IN :ids")
+    List<PostScore> findLikeScoresByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 리더보드 증분 갱신용 조회수.
+     */
+    @Query("SELECT new com.boardservice.repository.PostScore(p.id, p.board.id, p.viewCount) "
+            + "FROM Post p WHERE p.id IN :ids")
+    List<PostScore> findViewScoresByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 리더보드 재구성용 좋아요 상위 N건 (boardId가 null이면 전체).
+     */
+    @Query("SELECT new com.boardservice.repository.PostScore(p.id, p.board.id, p.likeCount) FROM Post p "
+            + "WHERE :boardId IS NULL OR p.board.id = :boardId ORDER BY p.likeCount DESC, p.createdAt DESC")
+    List<PostScore> findTopLikeScores(@Param("boardId") Long boardId, Limit limit);
+
+    /**
+     * 리더보드 재구성용 조회수 상위 N건 (boardId가 null이면 전체).
+     */
+    @Query("SELECT new com.boardservice.repository.PostScore(p.id, p.board.id, p.viewCount) FROM Post p "
+            + "WHERE :boardId IS NULL OR p.board.id = :boardId ORDER BY p.viewCount DESC, p.createdAt DESC")
+    List<PostScore> findTopViewScores(@Param("boardId") Long boardId, Limit limit);
+
+    /**
+     * 좋아요 수 원자적 가감 (엔티티를 로딩하지 않고 DB에서 직접 갱신, 0 미만으로 내려가지 않음).
+     * @return 갱신된 행 수 (게시글이 없으면 0).
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 "
+            + "ELSE p.likeCount + :delta END WHERE p.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 북마크 수 원자적 가감 (엔티티를 로딩하지 않고 DB에서 직접 갱신, 0 미만으로 내려가지 않음).
+     * @return 갱신된 행 수 (게시글이 없으면 0).
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.bookmarkCount = CASE WHEN p.bookmarkCount + :delta < 0 THEN 0 "
+            + "ELSE p.bookmarkCount + :delta END WHERE p.id = :id")
+    int addBookmarkCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 공유 수 원자적 가감 (엔티티를 로딩하지 않고 DB에서 직접 갱신, 0 미만으로 내려가지 않음).
+     * @return 갱신된 행 수 (게시글이 없으면 0).
      */
-    Page<Post> findAllByOrderByLikeCountDescCreatedAtDesc(Pageable pageable);
+    @Modifying
+    @Query("UPDATE Post p SET p.shareCount = CASE WHEN p.shareCount + :delta < 0 THEN 0 "
+            + "ELSE p.shareCount + :delta END WHERE p.id = :id")
+    int addShareCount(@Param("id") Long id, @Param("delta") int delta);
 
     /**
-     * 인기 게시글 (조회수 기준).
+     * 댓글 수 원자적 가감 (엔티티를 로딩하지 않고 DB에서 직접 갱신, 0 미만으로 내려가지 않음).
+     * @return 갱신된 행 수 (게시글이 없으면 0).
      */
-    Page<Post> findAllByOrderByViewCountDescCreatedAtDesc(Pageable pageable);
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 "
+            + "ELSE p.commentCount + :delta END WHERE p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
 }
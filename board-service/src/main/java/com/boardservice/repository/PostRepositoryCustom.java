@@ -0,0 +1,34 @@
+package com.boardservice.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 Repository 확장 (JPA 메서드 쿼리로 표현하기 어려운 배치 작업, MySQL 전용 쿼리).
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 조회수 일괄 가산 (JDBC batch UPDATE).
+     *
+     * @param deltas 게시글 ID별 증가량
+     */
+    void addViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * FULLTEXT(ngram) 전문 검색 (관련도 내림차순).
+     *
+     * @param booleanQuery MATCH ... AGAINST BOOLEAN MODE 검색식
+     */
+    List<PostSearchHit> searchFullText(String booleanQuery, long offset, int limit);
+
+    /**
+     * FULLTEXT(ngram) 전문 검색 결과 수.
+     */
+    long countFullText(String booleanQuery);
+
+    /**
+     * FULLTEXT 인덱스 재생성 (없으면 생성).
+     */
+    void rebuildFullTextIndex();
+}
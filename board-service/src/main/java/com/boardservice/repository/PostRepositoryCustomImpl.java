@@ -0,0 +1,84 @@
+package com.boardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 게시글 Repository 확장 구현.
+ */
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+            "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private static final String FULLTEXT_INDEX = "ft_posts_title_content";
+
+    private static final String MATCH = "MATCH(title, content) AGAINST (? IN BOOLEAN MODE)";
+
+    private static final String SEARCH_SQL = "SELECT id, " + MATCH + " AS score FROM posts WHERE " + MATCH
+            + " ORDER BY score DESC, id DESC LIMIT ? OFFSET ?";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM posts WHERE " + MATCH;
+
+    private static final String INDEX_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'posts' AND INDEX_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${view-count.flush-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 조회수 일괄 가산.
+     * 게시글 ID 순으로 정렬하여 갱신 (여러 인스턴스 동시 flush 시 교착 상태 방지).
+     */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, entries, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    @Override
+    public List<PostSearchHit> searchFullText(String booleanQuery, long offset, int limit) {
+        return jdbcTemplate.query(SEARCH_SQL,
+                (rs, rowNum) -> new PostSearchHit(rs.getLong("id"), rs.getDouble("score")),
+                booleanQuery, booleanQuery, limit, offset);
+    }
+
+    @Override
+    public long countFullText(String booleanQuery) {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, booleanQuery);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * FULLTEXT 인덱스 재생성.
+     * 재생성 중에는 검색이 실패하므로 PostSearchService는 LIKE 검색으로 대체합니다.
+     */
+    @Override
+    public void rebuildFullTextIndex() {
+        Integer exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, FULLTEXT_INDEX);
+        if (exists != null && exists > 0) {
+            jdbcTemplate.execute("ALTER TABLE posts DROP INDEX " + FULLTEXT_INDEX);
+        }
+        jdbcTemplate.execute("ALTER TABLE posts ADD FULLTEXT INDEX " + FULLTEXT_INDEX
+                + " (title, content) WITH PARSER ngram");
+    }
+}
@@ -0,0 +1,14 @@
+package com.boardservice.repository;
+
+/**
+ * 랭킹 갱신용 게시글 점수 (게시글 ID, 게시판 ID, 카운터 값).
+ */
+public record PostScore(Long postId, Long boardId, Long score) {
+
+    /**
+     * Integer 카운터(좋아요 수 등)용 생성자 (JPQL constructor expression).
+     */
+    public PostScore(Long postId, Long boardId, Integer score) {
+        this(postId, boardId, score.longValue());
+    }
+}
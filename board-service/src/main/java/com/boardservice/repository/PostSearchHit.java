@@ -0,0 +1,15 @@
+package com.boardservice.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전문 검색 결과 (게시글 ID + 관련도 점수).
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchHit {
+
+    private final Long postId;
+    private final double score;
+}
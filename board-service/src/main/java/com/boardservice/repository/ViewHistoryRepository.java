@@ -13,7 +13,7 @@ import java.time.LocalDate;
  * 조회 이력 Repository.
  */
 @Repository
-public interface ViewHistoryRepository extends JpaRepository<ViewHistory, Long> {
+public interface ViewHistoryRepository extends JpaRepository<ViewHistory, Long>, ViewHistoryRepositoryCustom {
 
     /**
      * 오늘 해당 게시글을 이미 조회했는지 확인 (중복 방지).
@@ -21,12 +21,25 @@ public interface ViewHistoryRepository extends JpaRepository<ViewHistory, Long>
     boolean existsByPostIdAndUserIdAndViewDate(Long postId, Long userId, LocalDate viewDate);
 
     /**
-     * 오래된 조회 이력 삭제 (배치 작업용).
-     * @param cutoffDate 이 날짜보다 오래된 이력 삭제.
+     * 가장 작은 조회 이력 ID (청크 삭제 시작점).
+     */
+    @Query("SELECT MIN(vh.id) FROM ViewHistory vh")
+    Long findMinId();
+
+    /**
+     * 기준일 이전 조회 이력 중 가장 큰 ID (청크 삭제 종료점).
+     */
+    @Query("SELECT MAX(vh.id) FROM ViewHistory vh WHERE vh.viewDate < :cutoffDate")
+    Long findMaxIdBefore(@Param("cutoffDate") LocalDate cutoffDate);
+
+    /**
+     * ID 범위 내 오래된 조회 이력 삭제 (청크 단위 배치 작업용).
+     * @return 삭제된 행 수.
      */
     @Modifying
-    @Query("DELETE FROM ViewHistory vh WHERE vh.viewDate < :cutoffDate")
-    void deleteOldRecords(@Param("cutoffDate") LocalDate cutoffDate);
+    @Query("DELETE FROM ViewHistory vh WHERE vh.id >= :fromId AND vh.id < :toId AND vh.viewDate < :cutoffDate")
+    int deleteOldRecordsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                @Param("cutoffDate") LocalDate cutoffDate);
 
     /**
      * 게시글의 총 조회 수 조회.
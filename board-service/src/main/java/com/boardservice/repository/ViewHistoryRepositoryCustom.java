@@ -0,0 +1,26 @@
+package com.boardservice.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 조회 이력 Repository 확장 (일자별 파티션 관리).
+ * view_histories 테이블이 일자별 RANGE 파티션(pYYYYMMDD)으로 구성된 경우에만 사용합니다.
+ */
+public interface ViewHistoryRepositoryCustom {
+
+    /**
+     * 기준일 이전 일자의 파티션 이름 목록.
+     */
+    List<String> findDailyPartitionsBefore(LocalDate cutoffDate);
+
+    /**
+     * 파티션 삭제 (해당 일자 이력 전체 삭제).
+     */
+    void dropPartition(String partitionName);
+
+    /**
+     * 일자 파티션 추가 (pmax 파티션 분할). 이미 존재하면 무시합니다.
+     */
+    void addDailyPartition(LocalDate viewDate);
+}
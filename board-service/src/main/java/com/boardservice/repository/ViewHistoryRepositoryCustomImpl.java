@@ -0,0 +1,75 @@
+package com.boardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 이력 Repository 확장 구현 (MySQL 파티션 DDL).
+ */
+@RequiredArgsConstructor
+public class ViewHistoryRepositoryCustomImpl implements ViewHistoryRepositoryCustom {
+
+    private static final String PARTITION_PREFIX = "p";
+    private static final DateTimeFormatter PARTITION_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> findDailyPartitionsBefore(LocalDate cutoffDate) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'view_histories' "
+                        + "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+
+        return partitions.stream()
+                .filter(name -> {
+                    LocalDate date = parseDate(name);
+                    return date != null && date.isBefore(cutoffDate);
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void dropPartition(String partitionName) {
+        if (parseDate(partitionName) == null) {
+            throw new IllegalArgumentException("일자 파티션이 아닙니다: " + partitionName);
+        }
+        jdbcTemplate.execute("ALTER TABLE view_histories DROP PARTITION " + partitionName);
+    }
+
+    @Override
+    public void addDailyPartition(LocalDate viewDate) {
+        String name = PARTITION_PREFIX + viewDate.format(PARTITION_DATE);
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'view_histories' "
+                        + "AND PARTITION_NAME = ?",
+                Integer.class, name);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE view_histories REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + viewDate.plusDays(1) + "')), "
+                + "PARTITION pmax VALUES LESS THAN MAXVALUE)");
+    }
+
+    private LocalDate parseDate(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX) || partitionName.length() != 9) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(1), PARTITION_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
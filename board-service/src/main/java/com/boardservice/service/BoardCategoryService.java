@@ -4,18 +4,22 @@ import com.boardservice.dto.board.BoardCategoryResponse;
 import com.boardservice.dto.board.CreateBoardCategoryRequest;
 import com.boardservice.entity.BoardCategory;
 import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.category.BoardCategoryCatalog;
+import com.boardservice.service.category.BoardCategoryChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 게시판 카테고리 서비스.
+ * 조회는 {@link BoardCategoryCatalog}의 메모리 스냅샷에서, 변경은 DB 반영 후 이벤트로 카탈로그를 교체합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,6 +27,9 @@ import java.util.stream.Collectors;
 public class BoardCategoryService {
 
     private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryCatalog boardCategoryCatalog;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시판 생성.
@@ -39,6 +46,7 @@ public class BoardCategoryService {
                 .build();
 
         BoardCategory savedCategory = boardCategoryRepository.save(category);
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(savedCategory.getId()));
         log.info("게시판 생성 완료: id={}, name={}", savedCategory.getId(), savedCategory.getName());
 
         return BoardCategoryResponse.from(savedCategory);
@@ -47,32 +55,23 @@ public class BoardCategoryService {
     /**
      * 전체 게시판 목록 조회.
      */
-    @Transactional(readOnly = true)
     public List<BoardCategoryResponse> getAllBoardCategories() {
-        return boardCategoryRepository.findAll().stream()
-                .map(BoardCategoryResponse::from)
-                .collect(Collectors.toList());
+        return boardCategoryCatalog.getAll();
     }
 
     /**
      * 활성화된 게시판 목록 조회.
      */
-    @Transactional(readOnly = true)
     public List<BoardCategoryResponse> getActiveBoardCategories() {
-        return boardCategoryRepository.findByIsActiveTrueOrderByCreatedAtAsc().stream()
-                .map(BoardCategoryResponse::from)
-                .collect(Collectors.toList());
+        return boardCategoryCatalog.getActive();
     }
 
     /**
      * 게시판 단건 조회.
      */
-    @Transactional(readOnly = true)
     public BoardCategoryResponse getBoardCategory(Long id) {
-        BoardCategory category = boardCategoryRepository.findById(id)
+        return boardCategoryCatalog.find(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. id=" + id));
-
-        return BoardCategoryResponse.from(category);
     }
 
     /**
@@ -89,6 +88,7 @@ public class BoardCategoryService {
         }
 
         category.update(request.getName(), request.getDescription());
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(id));
         log.info("게시판 수정 완료: id={}, name={}", category.getId(), category.getName());
 
         return BoardCategoryResponse.from(category);
@@ -96,18 +96,22 @@ public class BoardCategoryService {
 
     /**
      * 게시판 삭제.
+     * post_count는 인스턴스별 버퍼로 늦게 반영되고 다른 인스턴스의 미반영분은 보이지 않으므로,
+     * 삭제 가능 여부는 posts를 직접 세어 판단합니다.
      */
     @Transactional
     public void deleteBoardCategory(Long id) {
         BoardCategory category = boardCategoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. id=" + id));
 
-        if (category.getPostCount() > 0) {
+        long postCount = postRepository.countByBoardId(id);
+        if (postCount > 0) {
             throw new IllegalArgumentException("게시글이 존재하는 게시판은 삭제할 수 없습니다. postCount="
-                    + category.getPostCount());
+                    + postCount);
         }
 
         boardCategoryRepository.delete(category);
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(id));
         log.info("게시판 삭제 완료: id={}, name={}", category.getId(), category.getName());
     }
 
@@ -120,6 +124,7 @@ public class BoardCategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. id=" + id));
 
         category.deactivate();
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(id));
         log.info("게시판 비활성화: id={}, name={}", category.getId(), category.getName());
     }
 
@@ -132,6 +137,7 @@ public class BoardCategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다. id=" + id));
 
         category.activate();
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(id));
         log.info("게시판 활성화: id={}, name={}", category.getId(), category.getName());
     }
 }
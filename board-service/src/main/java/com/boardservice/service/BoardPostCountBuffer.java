@@ -0,0 +1,117 @@
+package com.boardservice.service;
+
+import com.boardservice.repository.BoardCategoryRepository;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시판 게시글 수 쓰기 지연 버퍼.
+ * 게시글 작성/삭제마다 같은 board_categories 행을 갱신하면 인기 게시판의 작성자들이 행 잠금에서 직렬화되므로,
+ * 커밋된 증감량을 게시판별 LongAdder에 누적한 뒤 주기적으로 한 번의 배치 UPDATE로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardPostCountBuffer {
+
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 수 증감 (트랜잭션 안이면 커밋 후 누적, 롤백되면 버림).
+     */
+    public void add(Long boardId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(boardId, delta);
+                }
+            });
+        } else {
+            accumulate(boardId, delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감량.
+     */
+    public long getPendingCount(Long boardId) {
+        LongAdder adder = counters.get(boardId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 증감량을 DB에 반영 (주기 실행).
+     * 반영에 실패하면 증감량을 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${board-post-count.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            boardCategoryRepository.addPostCounts(deltas);
+            log.debug("게시판 게시글 수 반영 완료: boards={}", deltas.size());
+        } catch (Exception e) {
+            log.error("게시판 게시글 수 반영 실패, 다음 주기에 재시도: boards={}", deltas.size(), e);
+            deltas.forEach(this::accumulate);
+            return;
+        }
+
+        eventPublisher.publishEvent(new BoardPostCountsFlushedEvent(deltas));
+    }
+
+    /**
+     * 종료 시 남은 증감량 반영.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void accumulate(Long boardId, long delta) {
+        counters.computeIfAbsent(boardId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 버퍼의 증감량을 꺼내고 초기화.
+     * 게시판 수는 적으므로 항목을 제거하지 않아, 제거와 동시에 누적된 증감량이 유실되지 않게 합니다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(boardId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 게시글 수 반영 완료 이벤트 (게시판 카탈로그 재적재용).
+     *
+     * @param deltas 반영된 게시판 ID별 증감량
+     */
+    public record BoardPostCountsFlushedEvent(Map<Long, Long> deltas) {
+    }
+}
@@ -1,6 +1,5 @@
 package com.boardservice.service;
 
-import com.boardservice.client.UserServiceClient;
 import com.boardservice.dto.BoardResponse;
 import com.boardservice.dto.CreateBoardRequest;
 import com.boardservice.dto.UpdateBoardRequest;
@@ -20,7 +19,7 @@ import java.util.stream.Collectors;
 public class BoardService {
 
     private final BoardRepository boardRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserInfoService userInfoService;
 
     /**
      * 게시글 생성
@@ -34,7 +33,7 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
-        String username = getUsername(userId);
+        String username = userInfoService.getUsername(userId);
         
         return BoardResponse.from(savedBoard, username);
     }
@@ -46,7 +45,7 @@ public class BoardService {
     public List<BoardResponse> getAllBoards() {
         return boardRepository.findAllByOrderByCreatedAtDesc().stream()
                 .map(board -> {
-                    String username = getUsername(board.getUserId());
+                    String username = userInfoService.getUsername(board.getUserId());
                     return BoardResponse.from(board, username);
                 })
                 .collect(Collectors.toList());
@@ -60,7 +59,7 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + boardId));
         
-        String username = getUsername(board.getUserId());
+        String username = userInfoService.getUsername(board.getUserId());
         return BoardResponse.from(board, username);
     }
 
@@ -77,7 +76,7 @@ public class BoardService {
         }
 
         board.update(request.getTitle(), request.getContent());
-        String username = getUsername(userId);
+        String username = userInfoService.getUsername(userId);
         
         return BoardResponse.from(board, username);
     }
@@ -96,16 +95,4 @@ public class BoardService {
 
         boardRepository.delete(board);
     }
-
-    /**
-     * User Service로부터 username 조회 (Feign Client)
-     */
-    private String getUsername(Long userId) {
-        try {
-            return userServiceClient.getUser(userId).getData().getUsername();
-        } catch (Exception e) {
-            log.error("Failed to fetch username for userId: {}", userId, e);
-            return "Unknown"; // 통신 실패 시 기본값
-        }
-    }
 }
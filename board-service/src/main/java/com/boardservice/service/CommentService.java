@@ -1,58 +1,91 @@
 package com.boardservice.service;
 
-import com.boardservice.client.UserServiceClient;
+import com.boardservice.dto.CursorResponse;
+import com.boardservice.dto.comment.CommentCursor;
 import com.boardservice.dto.comment.CommentResponse;
+import com.boardservice.dto.comment.CommentSummary;
 import com.boardservice.dto.comment.CreateCommentRequest;
 import com.boardservice.dto.comment.UpdateCommentRequest;
 import com.boardservice.entity.Comment;
-import com.boardservice.entity.Post;
 import com.boardservice.exception.CommentNotFoundException;
 import com.boardservice.exception.PostNotFoundException;
 import com.boardservice.repository.CommentRepository;
 import com.boardservice.repository.PostRepository;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 댓글 서비스.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 200;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserInfoService userInfoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommentService(CommentRepository commentRepository,
+                          PostRepository postRepository,
+                          UserInfoService userInfoService,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.userInfoService = userInfoService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 댓글 작성.
+     * posts 행 잠금은 카운터 증가와 댓글 저장만 하는 짧은 트랜잭션 동안만 유지하고,
+     * 작성자명 원격 조회는 커밋 후 트랜잭션 밖에서 수행합니다.
      */
-    @Transactional
     public CommentResponse createComment(Long userId, Long postId, CreateCommentRequest request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
-
-        Comment comment = Comment.builder()
-                .content(request.getContent())
-                .userId(userId)
-                .post(post)
-                .build();
-
-        Comment savedComment = commentRepository.save(comment);
-
-        post.incrementCommentCount();
+        Comment savedComment = transactionTemplate.execute(status -> {
+            // 카운터를 먼저 증가시켜 X 잠금을 잡은 뒤 저장 (저장의 FK 검사가 잡는 S 잠금과 교착되지 않도록)
+            if (postRepository.addCommentCount(postId, 1) == 0) {
+                throw new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId);
+            }
+
+            Comment comment = Comment.builder()
+                    .content(request.getContent())
+                    .userId(userId)
+                    .post(postRepository.getReferenceById(postId))
+                    .build();
+
+            Comment saved = commentRepository.save(comment);
+            eventPublisher.publishEvent(PostInteractionEvent.of(InteractionType.COMMENT, postId, 1));
+            return saved;
+        });
 
-        String username = getUsername(userId);
+        String username = userInfoService.getUsername(userId);
         log.info("댓글 작성 완료: commentId={}, postId={}, userId={}",
                 savedComment.getId(), postId, userId);
 
@@ -66,15 +99,57 @@ public class CommentService {
     public List<CommentResponse> getComments(Long postId) {
         List<Comment> comments = commentRepository
                 .findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(postId);
+        Map<Long, String> usernames = getUsernames(comments);
 
         return comments.stream()
-                .map(comment -> {
-                    String username = getUsername(comment.getUserId());
-                    return CommentResponse.from(comment, username);
-                })
+                .map(comment -> CommentResponse.from(comment, usernames.get(comment.getUserId())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 게시글의 댓글 목록 조회 (커서 기반, 작성 순).
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(Long postId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<CommentSummary> comments;
+        if (cursor == null) {
+            comments = commentRepository.findFirstByPostId(postId, limit);
+        } else {
+            CommentCursor decoded = CommentCursor.decode(cursor);
+            comments = commentRepository.findByPostIdAfter(postId, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentSummary> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = hasNext ? CommentCursor.from(page.get(pageSize - 1)).encode() : null;
+
+        return CursorResponse.of(toResponses(page), nextCursor);
+    }
+
+    /**
+     * 게시글의 댓글 전체를 작성 순으로 스트리밍.
+     * 스크롤 결과에서 읽은 댓글을 일정 건수씩 작성자명과 함께 consumer에 전달하므로,
+     * 메모리 사용량과 username 조회 횟수가 댓글 수에 비례해 커지지 않습니다.
+     * 소비가 끝날 때까지 DB 커넥션을 점유합니다.
+     */
+    @Transactional(readOnly = true)
+    public void streamComments(Long postId, Consumer<CommentResponse> consumer) {
+        try (Stream<CommentSummary> comments = commentRepository.streamByPostId(postId)) {
+            List<CommentSummary> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            Iterator<CommentSummary> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    toResponses(batch).forEach(consumer);
+                    batch.clear();
+                }
+            }
+            toResponses(batch).forEach(consumer);
+        }
+    }
+
     /**
      * 사용자의 댓글 목록 조회.
      */
@@ -82,11 +157,9 @@ public class CommentService {
     public Page<CommentResponse> getCommentsByUser(Long userId, Pageable pageable) {
         Page<Comment> comments = commentRepository
                 .findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId, pageable);
+        Map<Long, String> usernames = getUsernames(comments.getContent());
 
-        return comments.map(comment -> {
-            String username = getUsername(comment.getUserId());
-            return CommentResponse.from(comment, username);
-        });
+        return comments.map(comment -> CommentResponse.from(comment, usernames.get(comment.getUserId())));
     }
 
     /**
@@ -107,7 +180,7 @@ public class CommentService {
         }
 
         comment.update(request.getContent());
-        String username = getUsername(userId);
+        String username = userInfoService.getUsername(userId);
 
         log.info("댓글 수정 완료: commentId={}, userId={}", commentId, userId);
 
@@ -133,20 +206,37 @@ public class CommentService {
 
         comment.delete();
 
-        comment.getPost().decrementCommentCount();
+        Long postId = comment.getPost().getId();
+        postRepository.addCommentCount(postId, -1);
+        eventPublisher.publishEvent(PostInteractionEvent.of(InteractionType.COMMENT, postId, -1));
 
         log.info("댓글 삭제 완료 (소프트 삭제): commentId={}, userId={}", commentId, userId);
     }
 
     /**
-     * User Service로부터 username 조회 (Feign Client).
+     * 목록 projection을 작성자명과 함께 응답 DTO로 변환.
      */
-    private String getUsername(Long userId) {
-        try {
-            return userServiceClient.getUser(userId).getData().getUsername();
-        } catch (Exception e) {
-            log.error("Failed to fetch username for userId: {}", userId, e);
-            return "Unknown";
+    private List<CommentResponse> toResponses(List<CommentSummary> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
         }
+        Set<Long> userIds = comments.stream()
+                .map(CommentSummary::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, String> usernames = userInfoService.getUsernames(userIds);
+
+        return comments.stream()
+                .map(comment -> CommentResponse.from(comment, usernames.get(comment.getUserId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 댓글 작성자 username 일괄 조회.
+     */
+    private Map<Long, String> getUsernames(List<Comment> comments) {
+        Set<Long> userIds = comments.stream()
+                .map(Comment::getUserId)
+                .collect(Collectors.toSet());
+        return userInfoService.getUsernames(userIds);
     }
 }
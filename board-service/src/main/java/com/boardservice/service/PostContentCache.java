@@ -0,0 +1,58 @@
+package com.boardservice.service;
+
+import com.boardservice.dto.post.PostContent;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 본문 캐시 (read-through).
+ * 매 조회마다 가벼운 버전 조회로 얻은 수정 시각과 비교하여, 다른 인스턴스에서 수정된 게시글도 오래된 본문을 반환하지 않습니다.
+ * 본문이 {@code cache.post-contents.max-content-length}보다 긴 게시글은 캐시하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostContentCache {
+
+    private final Cache<Long, PostContent> postContentCache;
+
+    @Value("${cache.post-contents.max-content-length:20000}")
+    private int maxContentLength = 20_000;
+
+    /**
+     * 캐시된 본문 조회, 없거나 수정 시각이 다르면 로드 후 캐시.
+     *
+     * @param postId 게시글 ID
+     * @param updatedAt 현재 DB의 수정 시각
+     * @param loader 캐시 미스 시 본문 로더
+     * @return 게시글 본문
+     */
+    public PostContent get(Long postId, LocalDateTime updatedAt, Supplier<PostContent> loader) {
+        PostContent cached = postContentCache.getIfPresent(postId);
+        if (cached != null && Objects.equals(cached.getUpdatedAt(), updatedAt)) {
+            return cached;
+        }
+
+        PostContent loaded = loader.get();
+        if (loaded.getContent().length() <= maxContentLength) {
+            postContentCache.put(postId, loaded);
+        } else {
+            postContentCache.invalidate(postId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 게시글 수정/삭제 시 무효화.
+     */
+    public void invalidate(Long postId) {
+        postContentCache.invalidate(postId);
+    }
+}
@@ -4,7 +4,6 @@ import com.boardservice.dto.interaction.BookmarkResponse;
 import com.boardservice.dto.interaction.LikeResponse;
 import com.boardservice.dto.interaction.PostStatsResponse;
 import com.boardservice.entity.Bookmark;
-import com.boardservice.entity.Post;
 import com.boardservice.entity.PostLike;
 import com.boardservice.entity.PostShare;
 import com.boardservice.entity.ShareType;
@@ -15,10 +14,13 @@ import com.boardservice.repository.BookmarkRepository;
 import com.boardservice.repository.PostLikeRepository;
 import com.boardservice.repository.PostRepository;
 import com.boardservice.repository.PostShareRepository;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 게시글 인터랙션 서비스 (좋아요, 북마크, 공유).
+ * 카운터는 게시글을 로딩하지 않고 원자적 UPDATE로 가감하여 동시 요청 시 갱신 유실을 막습니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class PostInteractionService {
     private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
     private final PostShareRepository postShareRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 좋아요 추가.
@@ -46,16 +50,17 @@ public class PostInteractionService {
             throw new DuplicateLikeException("이미 좋아요한 게시글입니다.");
         }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
+        if (postRepository.addLikeCount(postId, 1) == 0) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId);
+        }
 
         PostLike like = PostLike.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .userId(userId)
                 .build();
 
         PostLike savedLike = postLikeRepository.save(like);
-        post.incrementLikeCount();
+        eventPublisher.publishEvent(PostInteractionEvent.of(InteractionType.LIKE, postId, 1));
 
         log.info("좋아요 추가: postId={}, userId={}", postId, userId);
 
@@ -70,9 +75,9 @@ public class PostInteractionService {
         PostLike like = postLikeRepository.findByPostIdAndUserId(postId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("좋아요하지 않은 게시글입니다."));
 
-        Post post = like.getPost();
         postLikeRepository.delete(like);
-        post.decrementLikeCount();
+        postRepository.addLikeCount(postId, -1);
+        eventPublisher.publishEvent(PostInteractionEvent.of(InteractionType.LIKE, postId, -1));
 
         log.info("좋아요 취소: postId={}, userId={}", postId, userId);
     }
@@ -103,16 +108,16 @@ public class PostInteractionService {
             throw new DuplicateBookmarkException("이미 북마크한 게시글입니다.");
         }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
+        if (postRepository.addBookmarkCount(postId, 1) == 0) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId);
+        }
 
         Bookmark bookmark = Bookmark.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .userId(userId)
                 .build();
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
-        post.incrementBookmarkCount();
 
         log.info("북마크 추가: postId={}, userId={}", postId, userId);
 
@@ -127,9 +132,8 @@ public class PostInteractionService {
         Bookmark bookmark = bookmarkRepository.findByPostIdAndUserId(postId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("북마크하지 않은 게시글입니다."));
 
-        Post post = bookmark.getPost();
         bookmarkRepository.delete(bookmark);
-        post.decrementBookmarkCount();
+        postRepository.addBookmarkCount(postId, -1);
 
         log.info("북마크 취소: postId={}, userId={}", postId, userId);
     }
@@ -156,37 +160,29 @@ public class PostInteractionService {
      */
     @Transactional
     public void sharePost(Long userId, Long postId, ShareType shareType) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
+        if (postRepository.addShareCount(postId, 1) == 0) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId);
+        }
 
         PostShare share = PostShare.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .userId(userId)
                 .shareType(shareType)
                 .build();
 
         postShareRepository.save(share);
-        post.incrementShareCount();
+        eventPublisher.publishEvent(PostInteractionEvent.of(InteractionType.SHARE, postId, 1));
 
         log.info("게시글 공유: postId={}, userId={}, shareType={}", postId, userId, shareType);
     }
 
     /**
      * 게시글 통계 조회.
+     * 카운터와 현재 사용자의 좋아요/북마크 여부를 한 번의 쿼리로 조회합니다.
      */
     @Transactional(readOnly = true)
     public PostStatsResponse getPostStats(Long postId, Long currentUserId) {
-        Post post = postRepository.findById(postId)
+        return postRepository.findStatsById(postId, currentUserId)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
-
-        boolean isLiked = false;
-        boolean isBookmarked = false;
-
-        if (currentUserId != null) {
-            isLiked = postLikeRepository.existsByPostIdAndUserId(postId, currentUserId);
-            isBookmarked = bookmarkRepository.existsByPostIdAndUserId(postId, currentUserId);
-        }
-
-        return PostStatsResponse.from(post, isLiked, isBookmarked);
     }
 }
@@ -1,26 +1,48 @@
 package com.boardservice.service;
 
-import com.boardservice.client.UserServiceClient;
+import com.boardservice.dto.CursorResponse;
+import com.boardservice.dto.board.BoardCategoryResponse;
 import com.boardservice.dto.post.CreatePostRequest;
+import com.boardservice.dto.post.PostContent;
+import com.boardservice.dto.post.PostCursor;
 import com.boardservice.dto.post.PostDetailResponse;
+import com.boardservice.dto.post.PostDetailVersion;
 import com.boardservice.dto.post.PostResponse;
+import com.boardservice.dto.post.PostSearchResponse;
+import com.boardservice.dto.post.PostSummary;
+import com.boardservice.dto.post.PostVersion;
 import com.boardservice.dto.post.UpdatePostRequest;
-import com.boardservice.entity.BoardCategory;
 import com.boardservice.entity.Post;
 import com.boardservice.exception.PostNotFoundException;
 import com.boardservice.repository.BoardCategoryRepository;
 import com.boardservice.repository.BookmarkRepository;
 import com.boardservice.repository.PostLikeRepository;
 import com.boardservice.repository.PostRepository;
+import com.boardservice.service.category.BoardCategoryCatalog;
+import com.boardservice.service.ranking.LeaderboardMetric;
+import com.boardservice.service.ranking.PostLeaderboard;
+import com.boardservice.service.ranking.TrendingRanking;
+import com.boardservice.service.search.PostSearchService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 게시글 서비스.
  */
@@ -29,18 +51,26 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryCatalog boardCategoryCatalog;
+    private final BoardPostCountBuffer boardPostCountBuffer;
     private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserInfoService userInfoService;
+    private final PostSearchService postSearchService;
+    private final PostContentCache postContentCache;
+    private final PostLeaderboard postLeaderboard;
+    private final TrendingRanking trendingRanking;
 
     /**
      * 게시글 생성.
      */
     @Transactional
     public PostResponse createPost(Long userId, CreatePostRequest request) {
-        BoardCategory board = boardCategoryRepository.findById(request.getBoardId())
+        BoardCategoryResponse board = boardCategoryCatalog.find(request.getBoardId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "게시판을 찾을 수 없습니다. id=" + request.getBoardId()));
 
@@ -48,18 +78,18 @@ public class PostService {
                 .title(request.getTitle())
                 .content(request.getContent())
                 .userId(userId)
-                .board(board)
+                .board(boardCategoryRepository.getReferenceById(board.getId()))
                 .build();
 
         Post savedPost = postRepository.save(post);
 
-        board.incrementPostCount();
+        boardPostCountBuffer.add(board.getId(), 1);
 
-        String username = getUsername(userId);
+        String username = userInfoService.getUsername(userId);
         log.info("게시글 생성 완료: postId={}, userId={}, boardId={}",
                 savedPost.getId(), userId, board.getId());
 
-        return PostResponse.from(savedPost, username);
+        return PostResponse.from(savedPost, username, board.getName());
     }
 
     /**
@@ -67,12 +97,15 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getAllPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return toResponses(getAllPostSummaries(pageable));
+    }
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+    /**
+     * 전체 게시글 요약 조회 (작성자명 조회 전 단계, 조건부 요청 검증용).
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummary> getAllPostSummaries(Pageable pageable) {
+        return postRepository.findSummaries(pageable);
     }
 
     /**
@@ -80,12 +113,15 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostsByBoard(Long boardId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByBoardIdOrderByCreatedAtDesc(boardId, pageable);
+        return toResponses(getPostSummariesByBoard(boardId, pageable));
+    }
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+    /**
+     * 게시판별 게시글 요약 조회 (작성자명 조회 전 단계, 조건부 요청 검증용).
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummary> getPostSummariesByBoard(Long boardId, Pageable pageable) {
+        return postRepository.findSummariesByBoardId(boardId, pageable);
     }
 
     /**
@@ -93,12 +129,62 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostsByUser(Long userId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Page<PostSummary> posts = postRepository.findSummariesByUserId(userId, pageable);
+
+        return toResponses(posts);
+    }
+
+    /**
+     * 전체 게시글 목록 조회 (커서 기반).
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getAllPostsByCursor(String cursor, int size) {
+        Limit limit = cursorLimit(size);
+        List<PostSummary> posts;
+        if (cursor == null) {
+            posts = postRepository.findLatest(limit);
+        } else {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findLatestBefore(decoded.getCreatedAt(), decoded.getId(), limit);
+        }
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+        return toCursorResponse(posts, limit);
+    }
+
+    /**
+     * 게시판별 게시글 목록 조회 (커서 기반).
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostsByBoardByCursor(Long boardId, String cursor, int size) {
+        Limit limit = cursorLimit(size);
+        List<PostSummary> posts;
+        if (cursor == null) {
+            posts = postRepository.findLatestByBoardId(boardId, limit);
+        } else {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findLatestByBoardIdBefore(
+                    boardId, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        return toCursorResponse(posts, limit);
+    }
+
+    /**
+     * 사용자별 게시글 목록 조회 (커서 기반).
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostsByUserByCursor(Long userId, String cursor, int size) {
+        Limit limit = cursorLimit(size);
+        List<PostSummary> posts;
+        if (cursor == null) {
+            posts = postRepository.findLatestByUserId(userId, limit);
+        } else {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findLatestByUserIdBefore(
+                    userId, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        return toCursorResponse(posts, limit);
     }
 
     /**
@@ -106,20 +192,44 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public PostDetailResponse getPost(Long postId, Long currentUserId) {
-        Post post = postRepository.findByIdWithBoard(postId)
+        return toDetailResponse(getPostVersion(postId, currentUserId));
+    }
+
+    /**
+     * 게시글 상세 버전 조회.
+     * 본문과 게시판 조인 없이 수정 시각과 카운터를 읽고, 로그인 사용자면 좋아요/북마크 여부를 더합니다.
+     * ETag 계산과 응답 카운터에 함께 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public PostDetailVersion getPostVersion(Long postId, Long currentUserId) {
+        PostVersion version = postRepository.findVersionById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
 
-        String username = getUsername(post.getUserId());
+        if (currentUserId == null) {
+            return PostDetailVersion.anonymous(version);
+        }
 
-        boolean isLiked = false;
-        boolean isBookmarked = false;
+        boolean isLiked = postLikeRepository.existsByPostIdAndUserId(postId, currentUserId);
+        boolean isBookmarked = bookmarkRepository.existsByPostIdAndUserId(postId, currentUserId);
+        return new PostDetailVersion(version, isLiked, isBookmarked);
+    }
 
-        if (currentUserId != null) {
-            isLiked = postLikeRepository.existsByPostIdAndUserId(postId, currentUserId);
-            isBookmarked = bookmarkRepository.existsByPostIdAndUserId(postId, currentUserId);
-        }
+    /**
+     * 조회한 버전으로 상세 응답 생성.
+     * 카운터와 좋아요/북마크 여부는 버전 값을 그대로 쓰고, 본문/작성자/게시판은 수정 시각이 같으면 캐시에서 반환합니다.
+     * 작성자명 원격 조회는 버전의 작성자 ID로 먼저 시작해 본문 로드와 동시에 수행합니다 (시간 초과 시 Unknown).
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResponse toDetailResponse(PostDetailVersion state) {
+        PostVersion version = state.getVersion();
+        Long postId = version.getId();
+        CompletableFuture<String> username = userInfoService.getUsernameAsync(version.getUserId());
 
-        return PostDetailResponse.from(post, username, isLiked, isBookmarked);
+        PostContent content = postContentCache.get(postId, version.getUpdatedAt(), () ->
+                PostContent.from(postRepository.findByIdWithBoard(postId)
+                        .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId))));
+
+        return PostDetailResponse.of(content, state, username.join());
     }
 
     /**
@@ -135,7 +245,8 @@ public class PostService {
         }
 
         post.update(request.getTitle(), request.getContent());
-        String username = getUsername(userId);
+        postContentCache.invalidate(postId);
+        String username = userInfoService.getUsername(userId);
 
         log.info("게시글 수정 완료: postId={}, userId={}", postId, userId);
 
@@ -154,9 +265,10 @@ public class PostService {
             throw new IllegalArgumentException("게시글 작성자만 삭제할 수 있습니다.");
         }
 
-        post.getBoard().decrementPostCount();
+        boardPostCountBuffer.add(post.getBoard().getId(), -1);
 
         postRepository.delete(post);
+        postContentCache.invalidate(postId);
 
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, userId);
     }
@@ -165,50 +277,110 @@ public class PostService {
      * 인기 게시글 조회 (좋아요 기준).
      */
     @Transactional(readOnly = true)
-    public Page<PostResponse> getPopularPostsByLikes(Pageable pageable) {
-        Page<Post> posts = postRepository.findAllByOrderByLikeCountDescCreatedAtDesc(pageable);
+    public Page<PostResponse> getPopularPostsByLikes(Long boardId, Pageable pageable) {
+        Page<PostSummary> posts = getPopularSummaries(LeaderboardMetric.LIKES, boardId, pageable)
+                .orElseGet(() -> boardId == null
+                        ? postRepository.findPopularSummariesByLikes(pageable)
+                        : postRepository.findPopularSummariesByBoardIdByLikes(boardId, pageable));
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+        return toResponses(posts);
     }
 
     /**
      * 인기 게시글 조회 (조회수 기준).
      */
     @Transactional(readOnly = true)
-    public Page<PostResponse> getPopularPostsByViews(Pageable pageable) {
-        Page<Post> posts = postRepository.findAllByOrderByViewCountDescCreatedAtDesc(pageable);
+    public Page<PostResponse> getPopularPostsByViews(Long boardId, Pageable pageable) {
+        Page<PostSummary> posts = getPopularSummaries(LeaderboardMetric.VIEWS, boardId, pageable)
+                .orElseGet(() -> boardId == null
+                        ? postRepository.findPopularSummariesByViews(pageable)
+                        : postRepository.findPopularSummariesByBoardIdByViews(boardId, pageable));
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+        return toResponses(posts);
     }
 
     /**
-     * 게시글 검색.
+     * 트렌딩 게시글 조회 (시간 감쇠 점수 순, 상위 K건 안에서 페이지 반환).
      */
     @Transactional(readOnly = true)
-    public Page<PostResponse> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.searchByKeyword(keyword, pageable);
+    public Page<PostResponse> getTrendingPosts(Long boardId, Pageable pageable) {
+        List<Long> ids = trendingRanking.findTopPostIds(boardId);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+
+        List<PostSummary> posts = findSummariesInOrder(ids.subList(from, to));
+        return toResponses(new PageImpl<>(posts, pageable, ids.size()));
+    }
+
+    /**
+     * 게시글 검색 (전문 검색 - 관련도 순).
+     */
+    public Page<PostSearchResponse> searchPosts(String keyword, Pageable pageable) {
+        return postSearchService.search(keyword, pageable);
+    }
 
-        return posts.map(post -> {
-            String username = getUsername(post.getUserId());
-            return PostResponse.from(post, username);
-        });
+    /**
+     * 리더보드 순서대로 요약 조회 (리더보드를 사용할 수 없으면 empty).
+     */
+    private Optional<Page<PostSummary>> getPopularSummaries(LeaderboardMetric metric, Long boardId,
+                                                            Pageable pageable) {
+        return postLeaderboard.findPostIds(metric, boardId, pageable).map(ids ->
+                new PageImpl<>(findSummariesInOrder(ids.getContent()), pageable, ids.getTotalElements()));
     }
 
     /**
-     * User Service로부터 username 조회 (Feign Client).
+     * 주어진 ID 순서대로 요약 조회 (삭제된 게시글은 제외).
      */
-    private String getUsername(Long userId) {
-        try {
-            return userServiceClient.getUser(userId).getData().getUsername();
-        } catch (Exception e) {
-            log.error("Failed to fetch username for userId: {}", userId, e);
-            return "Unknown";
+    private List<PostSummary> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 페이지의 작성자 username을 한 번에 조회하여 응답 DTO로 변환.
+     */
+    public Page<PostResponse> toResponses(Page<PostSummary> posts) {
+        Set<Long> userIds = posts.getContent().stream()
+                .map(PostSummary::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, String> usernames = userInfoService.getUsernames(userIds);
+
+        return posts.map(post -> PostResponse.from(post, usernames.get(post.getUserId())));
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 요청 크기보다 1건 더 조회.
+     */
+    private Limit cursorLimit(int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * 초과 조회한 1건으로 다음 커서를 결정하고 응답 DTO로 변환.
+     */
+    private CursorResponse<PostResponse> toCursorResponse(List<PostSummary> posts, Limit limit) {
+        int pageSize = limit.max() - 1;
+        boolean hasNext = posts.size() > pageSize;
+        List<PostSummary> page = hasNext ? posts.subList(0, pageSize) : posts;
+
+        Set<Long> userIds = page.stream()
+                .map(PostSummary::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, String> usernames = userInfoService.getUsernames(userIds);
+
+        List<PostResponse> content = page.stream()
+                .map(post -> PostResponse.from(post, usernames.get(post.getUserId())))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? PostCursor.from(page.get(pageSize - 1)).encode() : null;
+
+        return CursorResponse.of(content, nextCursor);
     }
 }
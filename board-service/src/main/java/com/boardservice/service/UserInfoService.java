@@ -0,0 +1,157 @@
+package com.boardservice.service;
+
+import com.boardservice.client.UserServiceClient;
+import com.common.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작성자 정보 조회 서비스 (User Service 호출 + 로컬 캐시).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserInfoService {
+
+    /**
+     * 사용자 정보를 조회할 수 없을 때 사용하는 username.
+     */
+    public static final String UNKNOWN_USERNAME = "Unknown";
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<Long, UserServiceClient.UserResponse> userCache;
+    private final Executor userLookupExecutor;
+
+    @Value("${user-lookup.timeout:1s}")
+    private Duration lookupTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 단건 username 조회 (캐시 우선).
+     */
+    public String getUsername(Long userId) {
+        UserServiceClient.UserResponse cached = userCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached.getUsername();
+        }
+
+        try {
+            UserServiceClient.UserResponse user = userServiceClient.getUser(userId).getData();
+            cache(user);
+            return user.getUsername();
+        } catch (Exception e) {
+            log.error("Failed to fetch username for userId: {}", userId, e);
+            return UNKNOWN_USERNAME;
+        }
+    }
+
+    /**
+     * 단건 username 비동기 조회.
+     * 캐시에 있으면 바로 완료된 future를 반환하고, 없으면 전용 Executor에서 조회합니다.
+     * {@code user-lookup.timeout} 안에 응답이 없거나 실패하면 Unknown으로 완료됩니다 (늦게 도착한 응답은 캐시에만 반영).
+     * Executor 대기열이 가득 차 작업이 거절되면 요청 스레드에서 직접 호출하지 않고 바로 Unknown으로 완료합니다.
+     */
+    public CompletableFuture<String> getUsernameAsync(Long userId) {
+        UserServiceClient.UserResponse cached = userCache.getIfPresent(userId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.getUsername());
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> getUsername(userId), userLookupExecutor)
+                    .completeOnTimeout(UNKNOWN_USERNAME, lookupTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> UNKNOWN_USERNAME);
+        } catch (RejectedExecutionException e) {
+            log.warn("username 조회 작업이 거절되어 Unknown으로 응답합니다: userId={}", userId);
+            return CompletableFuture.completedFuture(UNKNOWN_USERNAME);
+        }
+    }
+
+    /**
+     * username 일괄 조회 (캐시 미스만 User Service 한도 단위로 나누어 요청).
+     *
+     * @return 요청한 모든 사용자 ID에 대한 username (조회 실패 시 Unknown)
+     */
+    public Map<Long, String> getUsernames(Collection<Long> userIds) {
+        Map<Long, String> usernames = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+
+        for (Long userId : userIds) {
+            UserServiceClient.UserResponse cached = userCache.getIfPresent(userId);
+            if (cached != null) {
+                usernames.put(userId, cached.getUsername());
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Set<Long> batch : partition(misses)) {
+                fetchUsernames(batch, usernames);
+            }
+            misses.forEach(userId -> usernames.putIfAbsent(userId, UNKNOWN_USERNAME));
+        }
+
+        return usernames;
+    }
+
+    /**
+     * 한 번의 일괄 요청으로 username 조회 (실패 시 해당 배치만 Unknown 처리).
+     */
+    private void fetchUsernames(Set<Long> batch, Map<Long, String> usernames) {
+        try {
+            for (UserServiceClient.UserResponse user : userServiceClient
+                    .getUsers(new UserServiceClient.UserBatchRequest(batch)).getData()) {
+                cache(user);
+                usernames.put(user.getId(), user.getUsername());
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch usernames for userIds: {}", batch, e);
+        }
+    }
+
+    /**
+     * User Service의 일괄 조회 한도({@link UserDto#MAX_BATCH_IDS}) 단위로 분할.
+     */
+    private List<Set<Long>> partition(Set<Long> userIds) {
+        List<Set<Long>> batches = new ArrayList<>();
+        Set<Long> batch = new HashSet<>();
+        for (Long userId : userIds) {
+            batch.add(userId);
+            if (batch.size() == UserDto.MAX_BATCH_IDS) {
+                batches.add(batch);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Circuit Breaker fallback 응답(id 없음)은 캐시하지 않음 (장애 복구 후 즉시 정상 값 반영).
+     */
+    private void cache(UserServiceClient.UserResponse user) {
+        if (user.getId() != null) {
+            userCache.put(user.getId(), user);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.boardservice.service;
+
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 쓰기 지연 버퍼.
+ * 조회마다 posts 행을 갱신하지 않고 게시글별 LongAdder에 누적한 뒤,
+ * 주기적으로 {@code view_count = view_count + ?} 배치 UPDATE로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Value("${view-count.shutdown-flush-timeout:10s}")
+    private Duration shutdownFlushTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 조회수 1 증가 (메모리 누적).
+     */
+    public void increment(Long postId) {
+        LongAdder adder;
+        do {
+            adder = counters.computeIfAbsent(postId, id -> new LongAdder());
+            adder.increment();
+            // flush가 유휴 항목을 막 제거했다면 이 증가분은 버려진 adder에 들어갔으므로 새 항목에 다시 누적
+        } while (counters.get(postId) != adder);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수.
+     */
+    public long getPendingCount(Long postId) {
+        LongAdder adder = counters.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영 (주기 실행).
+     * 반영에 실패하면 증가량을 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postRepository.addViewCounts(deltas);
+            log.debug("조회수 반영 완료: posts={}", deltas.size());
+        } catch (Exception e) {
+            log.error("조회수 반영 실패, 다음 주기에 재시도: posts={}", deltas.size(), e);
+            deltas.forEach((postId, delta) ->
+                    counters.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return;
+        }
+
+        eventPublisher.publishEvent(new PostInteractionEvent(InteractionType.VIEW, deltas));
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영 (최대 shutdownFlushTimeout 동안만 대기).
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> future = executor.submit(this::flush);
+        try {
+            future.get(shutdownFlushTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("종료 시 조회수 반영 시간 초과: timeout={}", shutdownFlushTimeout);
+            future.cancel(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("종료 시 조회수 반영 실패", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 버퍼의 증가량을 꺼내고 초기화.
+     * 직전 주기 이후 조회가 없던 게시글은 버퍼에서 제거합니다.
+     * 제거는 합계가 여전히 0일 때만 원자적으로 수행하고, 그 사이 제거된 adder에 더해진 조회는
+     * {@link #increment}가 새 항목에 다시 누적하므로 유실되지 않습니다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                counters.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+}
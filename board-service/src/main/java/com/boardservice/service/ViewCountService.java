@@ -1,10 +1,7 @@
 package com.boardservice.service;
 
-import com.boardservice.entity.Post;
-import com.boardservice.entity.ViewHistory;
-import com.boardservice.exception.PostNotFoundException;
-import com.boardservice.repository.PostRepository;
 import com.boardservice.repository.ViewHistoryRepository;
+import com.boardservice.service.view.ViewDeduplicator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +9,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 /**
  * 조회수 관리 서비스.
@@ -26,17 +21,20 @@ import java.time.LocalDateTime;
 @Slf4j
 public class ViewCountService {
 
-    private final PostRepository postRepository;
     private final ViewHistoryRepository viewHistoryRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ViewHistoryPurgeService viewHistoryPurgeService;
 
     /**
      * 조회수 증가 (비동기 처리, 중복 방지).
+     * posts 행은 직접 갱신하지 않고 {@link ViewCountBuffer}에 누적합니다.
+     * DB 트랜잭션은 view_histories를 쓰는 table 전략에서만 해당 구현체가 엽니다.
      *
      * @param postId 게시글 ID
      * @param userId 사용자 ID (비로그인은 0)
      */
     @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void incrementViewCount(Long postId, Long userId) {
         LocalDate today = LocalDate.now();
 
@@ -44,48 +42,34 @@ public class ViewCountService {
             userId = 0L;
         }
 
-        if (viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(postId, userId, today)) {
+        if (!viewDeduplicator.markFirstView(postId, userId, today)) {
             log.debug("이미 오늘 조회한 게시글: postId={}, userId={}", postId, userId);
             return;
         }
 
-        ViewHistory history = ViewHistory.builder()
-                .postId(postId)
-                .userId(userId)
-                .viewDate(today)
-                .createdAt(LocalDateTime.now())
-                .build();
+        viewCountBuffer.increment(postId);
 
-        viewHistoryRepository.save(history);
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. id=" + postId));
-
-        post.incrementViewCount();
-
-        log.debug("조회수 증가: postId={}, userId={}, newCount={}",
-                postId, userId, post.getViewCount());
+        log.debug("조회수 증가: postId={}, userId={}", postId, userId);
     }
 
     /**
      * 오래된 조회 이력 삭제 (배치 작업 - 매일 새벽 3시).
-     * 30일 이상된 이력 삭제.
+     * 30일 이상된 이력을 청크 단위로 삭제.
      */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void cleanOldViewHistory() {
         LocalDate cutoffDate = LocalDate.now().minusDays(30);
 
         try {
-            viewHistoryRepository.deleteOldRecords(cutoffDate);
-            log.info("오래된 조회 이력 삭제 완료: cutoffDate={}", cutoffDate);
+            long deleted = viewHistoryPurgeService.purgeOlderThan(cutoffDate);
+            log.info("오래된 조회 이력 삭제 완료: cutoffDate={}, deleted={}", cutoffDate, deleted);
         } catch (Exception e) {
             log.error("조회 이력 삭제 실패", e);
         }
     }
 
     /**
-     * 게시글의 일자별 조회수 조회.
+     * 게시글의 일자별 조회수 조회 (table 중복 판별 전략에서만 이력이 기록됨).
      */
     @Transactional(readOnly = true)
     public long getViewCountByDateRange(Long postId, LocalDate startDate, LocalDate endDate) {
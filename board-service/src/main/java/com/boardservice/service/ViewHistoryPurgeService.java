@@ -0,0 +1,140 @@
+package com.boardservice.service;
+
+import com.boardservice.repository.ViewHistoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오래된 조회 이력 삭제 서비스.
+ * chunked 모드는 ID 범위 청크마다 별도 트랜잭션으로 삭제하고 청크 사이에 대기하여
+ * 잠금 유지 시간과 undo log 증가를 제한합니다.
+ * partition 모드는 일자별 파티션을 DROP PARTITION으로 통째로 삭제합니다.
+ */
+@Service
+@Slf4j
+public class ViewHistoryPurgeService {
+
+    private final ViewHistoryRepository viewHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary chunkRows;
+    private final Counter purgedRows;
+
+    @Value("${view-history.purge.mode:chunked}")
+    private String mode = "chunked";
+
+    @Value("${view-history.purge.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${view-history.purge.pause:100ms}")
+    private Duration pause = Duration.ofMillis(100);
+
+    @Value("${view-history.purge.partition-days-ahead:7}")
+    private int partitionDaysAhead = 7;
+
+    public ViewHistoryPurgeService(ViewHistoryRepository viewHistoryRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.viewHistoryRepository = viewHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkRows = DistributionSummary.builder("view_history.purge.chunk.rows")
+                .description("청크별 삭제된 조회 이력 행 수")
+                .register(meterRegistry);
+        this.purgedRows = Counter.builder("view_history.purge.rows")
+                .description("삭제된 조회 이력 행 수 (누적)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기준일 이전 조회 이력 삭제.
+     *
+     * @param cutoffDate 이 날짜보다 오래된 이력 삭제
+     * @return 삭제된 행 수 (partition 모드는 삭제한 파티션 수)
+     */
+    public long purgeOlderThan(LocalDate cutoffDate) {
+        if ("partition".equals(mode)) {
+            return dropPartitionsOlderThan(cutoffDate);
+        }
+        return deleteInChunks(cutoffDate);
+    }
+
+    /**
+     * 다가올 일자 파티션 미리 생성 (partition 모드 - 매일 새벽 2시).
+     */
+    @Scheduled(cron = "0 0 2 * * *")
+    public void prepareDailyPartitions() {
+        if (!"partition".equals(mode)) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i <= partitionDaysAhead; i++) {
+            viewHistoryRepository.addDailyPartition(today.plusDays(i));
+        }
+        log.info("조회 이력 파티션 준비 완료: from={}, days={}", today, partitionDaysAhead);
+    }
+
+    private long deleteInChunks(LocalDate cutoffDate) {
+        Long minId = viewHistoryRepository.findMinId();
+        Long maxId = viewHistoryRepository.findMaxIdBefore(cutoffDate);
+        if (minId == null || maxId == null) {
+            return 0L;
+        }
+
+        long total = 0L;
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            long from = fromId;
+            long to = Math.min(fromId + batchSize, maxId + 1);
+
+            Integer deleted = transactionTemplate.execute(status ->
+                    viewHistoryRepository.deleteOldRecordsInRange(from, to, cutoffDate));
+            int rows = deleted == null ? 0 : deleted;
+
+            chunkRows.record(rows);
+            purgedRows.increment(rows);
+            total += rows;
+            log.debug("조회 이력 청크 삭제: idRange=[{}, {}), rows={}", from, to, rows);
+
+            if (to <= maxId && !pauseBetweenChunks()) {
+                log.warn("조회 이력 삭제 중단 (인터럽트): deleted={}", total);
+                break;
+            }
+        }
+        return total;
+    }
+
+    private long dropPartitionsOlderThan(LocalDate cutoffDate) {
+        List<String> partitions = viewHistoryRepository.findDailyPartitionsBefore(cutoffDate);
+        for (String partition : partitions) {
+            viewHistoryRepository.dropPartition(partition);
+            log.info("조회 이력 파티션 삭제: partition={}", partition);
+        }
+        return partitions.size();
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.boardservice.service.category;
+
+import com.boardservice.dto.board.BoardCategoryResponse;
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.service.BoardPostCountBuffer;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 카테고리 카탈로그 (copy-on-write).
+ * 전체 카테고리를 불변 스냅샷으로 적재해 두고 조회는 잠금 없이 현재 스냅샷을 읽으며,
+ * 변경 커밋 후에는 새 스냅샷을 만들어 참조를 원자적으로 교체합니다.
+ *
+ * <p>다른 인스턴스에는 Redis 채널로 변경을 알려 각자 다시 적재하게 합니다.
+ * 메시지 유실과 다른 인스턴스의 게시글 수(postCount) 변화는 주기적 재적재로 보정합니다.
+ * 게시글 수는 스냅샷 값에 이 인스턴스의 미반영 증감량({@link BoardPostCountBuffer})을 더해 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCategoryCatalog {
+
+    public static final String CHANNEL = "board-categories:changed";
+
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final BoardPostCountBuffer boardPostCountBuffer;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 다른 인스턴스의 변경 알림 구독.
+     */
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String origin = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (!instanceId.equals(origin)) {
+                reload();
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 전체 게시판 (ID 순).
+     */
+    public List<BoardCategoryResponse> getAll() {
+        return withPendingPostCounts(current().all());
+    }
+
+    /**
+     * 활성화된 게시판 (생성 순).
+     */
+    public List<BoardCategoryResponse> getActive() {
+        return withPendingPostCounts(current().active());
+    }
+
+    /**
+     * 게시판 단건 조회.
+     * 스냅샷에 없으면 (다른 인스턴스에서 막 생성된 경우 등) DB에서 조회합니다.
+     */
+    public Optional<BoardCategoryResponse> find(Long id) {
+        BoardCategoryResponse cached = current().byId().get(id);
+        if (cached != null) {
+            return Optional.of(withPendingPostCount(cached));
+        }
+        return boardCategoryRepository.findById(id).map(BoardCategoryResponse::from);
+    }
+
+    /**
+     * 변경 커밋 후 다시 적재하고 다른 인스턴스에 알림.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(BoardCategoryChangedEvent event) {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId);
+        } catch (Exception e) {
+            log.warn("게시판 카탈로그 변경 전파 실패 (주기적 재적재로 보정): categoryId={}", event.categoryId(), e);
+        }
+    }
+
+    /**
+     * 게시글 수 반영 후 다시 적재 (이 인스턴스의 미반영 증감량이 0이 되었으므로).
+     */
+    @EventListener
+    public void onPostCountsFlushed(BoardPostCountBuffer.BoardPostCountsFlushedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 기동 시 적재.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 주기적 재적재 (게시글 수 갱신, 유실된 변경 알림 보정).
+     */
+    @Scheduled(fixedDelayString = "${board-catalog.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("게시판 카탈로그 재적재 실패, 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * DB에서 전체 카테고리를 읽어 새 스냅샷으로 교체.
+     */
+    public void reload() {
+        List<BoardCategoryResponse> all = boardCategoryRepository.findAll().stream()
+                .map(BoardCategoryResponse::from)
+                .sorted(Comparator.comparing(BoardCategoryResponse::getId))
+                .collect(Collectors.toList());
+        snapshot.set(Snapshot.of(all));
+        log.debug("게시판 카탈로그 적재: categories={}", all.size());
+    }
+
+    private List<BoardCategoryResponse> withPendingPostCounts(List<BoardCategoryResponse> categories) {
+        return categories.stream()
+                .map(this::withPendingPostCount)
+                .collect(Collectors.toList());
+    }
+
+    private BoardCategoryResponse withPendingPostCount(BoardCategoryResponse category) {
+        long pending = boardPostCountBuffer.getPendingCount(category.getId());
+        if (pending == 0) {
+            return category;
+        }
+        return category.toBuilder()
+                .postCount((int) Math.max(0, category.getPostCount() + pending))
+                .build();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            reload();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷.
+     */
+    private record Snapshot(List<BoardCategoryResponse> all, List<BoardCategoryResponse> active,
+                            Map<Long, BoardCategoryResponse> byId) {
+
+        static Snapshot of(List<BoardCategoryResponse> all) {
+            List<BoardCategoryResponse> active = all.stream()
+                    .filter(category -> Boolean.TRUE.equals(category.getIsActive()))
+                    .sorted(Comparator.comparing(BoardCategoryResponse::getCreatedAt,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .collect(Collectors.toList());
+            Map<Long, BoardCategoryResponse> byId = all.stream()
+                    .collect(Collectors.toMap(BoardCategoryResponse::getId, Function.identity()));
+            return new Snapshot(List.copyOf(all), List.copyOf(active), Map.copyOf(byId));
+        }
+    }
+}
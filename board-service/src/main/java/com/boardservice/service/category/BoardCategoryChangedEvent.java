@@ -0,0 +1,10 @@
+package com.boardservice.service.category;
+
+/**
+ * 게시판 카테고리 변경 이벤트 (생성/수정/활성화/비활성화/삭제).
+ * 커밋 후 카탈로그를 다시 적재하고 다른 인스턴스에 무효화를 전파하는 데 사용합니다.
+ *
+ * @param categoryId 변경된 게시판 ID
+ */
+public record BoardCategoryChangedEvent(Long categoryId) {
+}
@@ -0,0 +1,12 @@
+package com.boardservice.service.ranking;
+
+/**
+ * 게시글 인터랙션 종류.
+ */
+public enum InteractionType {
+    LIKE,
+    VIEW,
+    COMMENT,
+    SHARE,
+    BOOKMARK
+}
@@ -0,0 +1,36 @@
+package com.boardservice.service.ranking;
+
+/**
+ * 리더보드 정렬 기준.
+ */
+public enum LeaderboardMetric {
+    LIKES("likes", InteractionType.LIKE),
+    VIEWS("views", InteractionType.VIEW);
+
+    private final String key;
+    private final InteractionType source;
+
+    LeaderboardMetric(String key, InteractionType source) {
+        this.key = key;
+        this.source = source;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 이 지표를 바꾸는 인터랙션에 해당하는 지표.
+     *
+     * @param type 인터랙션 종류
+     * @return 해당 지표 (없으면 null)
+     */
+    public static LeaderboardMetric of(InteractionType type) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.source == type) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
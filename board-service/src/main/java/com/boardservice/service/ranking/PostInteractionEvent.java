@@ -0,0 +1,25 @@
+package com.boardservice.service.ranking;
+
+import java.util.Map;
+
+/**
+ * 게시글 카운터 변경 이벤트.
+ * 카운터 UPDATE 이후 발행되며, 랭킹 구성요소가 커밋 후 전체 재계산 없이 증분 갱신하는 데 사용합니다.
+ *
+ * @param type 인터랙션 종류
+ * @param deltas 게시글 ID별 증감량
+ */
+public record PostInteractionEvent(InteractionType type, Map<Long, Long> deltas) {
+
+    /**
+     * 단일 게시글 이벤트 생성.
+     *
+     * @param type 인터랙션 종류
+     * @param postId 게시글 ID
+     * @param delta 증감량
+     * @return 이벤트
+     */
+    public static PostInteractionEvent of(InteractionType type, Long postId, long delta) {
+        return new PostInteractionEvent(type, Map.of(postId, delta));
+    }
+}
@@ -0,0 +1,216 @@
+package com.boardservice.service.ranking;
+
+import com.boardservice.dto.board.BoardCategoryResponse;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.repository.PostScore;
+import com.boardservice.service.category.BoardCategoryCatalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 리더보드 (Redis Sorted Set).
+ * 지표(좋아요/조회수)별로 전체 및 게시판별 상위 N건을 유지하여, 인기글 조회 시 posts 전체 정렬 없이 페이지를 반환합니다.
+ *
+ * <p>카운터가 바뀌면 커밋 후 해당 게시글의 현재 값을 DB에서 읽어 ZADD하고 N건을 넘는 하위 항목은 잘라냅니다.
+ * 점수가 내려간 게시글 때문에 생기는 누락 등은 주기적 재구성(rebuild)으로 보정합니다.
+ * 리더보드가 아직 없거나 Redis를 사용할 수 없으면 조회 측이 기존 SQL 정렬로 대체하도록 빈 값을 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLeaderboard {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final BoardCategoryCatalog boardCategoryCatalog;
+
+    @Value("${leaderboard.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${leaderboard.size:1000}")
+    private int size = 1000;
+
+    /**
+     * 카운터 변경 이벤트 처리 (커밋 후, 트랜잭션 밖에서 발행되면 즉시).
+     * 리더보드 갱신 실패는 요청을 실패시키지 않고 다음 재구성에서 보정됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        LeaderboardMetric metric = LeaderboardMetric.of(event.type());
+        if (!enabled || metric == null || event.deltas().isEmpty()) {
+            return;
+        }
+        try {
+            refresh(metric, event.deltas().keySet());
+        } catch (Exception e) {
+            log.warn("리더보드 갱신 실패 (재구성 시 보정): metric={}, posts={}", metric, event.deltas().size(), e);
+        }
+    }
+
+    /**
+     * 지정한 게시글의 현재 카운터로 리더보드를 갱신합니다.
+     * 키(전체/게시판)별로 모아 한 번의 ZADD로 반영하므로 왕복 수는 게시글 수가 아니라 키 수에 비례합니다.
+     */
+    void refresh(LeaderboardMetric metric, Collection<Long> postIds) {
+        List<PostScore> scores = metric == LeaderboardMetric.LIKES
+                ? postRepository.findLikeScoresByIdIn(postIds)
+                : postRepository.findViewScoresByIdIn(postIds);
+
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> tuplesByKey = new HashMap<>();
+        for (PostScore score : scores) {
+            ZSetOperations.TypedTuple<String> tuple = tuple(score);
+            tuplesByKey.computeIfAbsent(key(metric, null), k -> new HashSet<>()).add(tuple);
+            tuplesByKey.computeIfAbsent(key(metric, score.boardId()), k -> new HashSet<>()).add(tuple);
+        }
+
+        ZSetOperations<String, String> sortedSet = redisTemplate.opsForZSet();
+        tuplesByKey.forEach((key, tuples) -> {
+            sortedSet.add(key, tuples);
+            trim(key);
+        });
+    }
+
+    /**
+     * 리더보드 순서대로 게시글 ID 페이지 조회.
+     *
+     * @param metric 정렬 기준
+     * @param boardId 게시판 ID (null이면 전체)
+     * @param pageable 페이지 정보
+     * @return 게시글 ID 페이지 (리더보드를 사용할 수 없으면 empty)
+     */
+    public Optional<Page<Long>> findPostIds(LeaderboardMetric metric, Long boardId, Pageable pageable) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String key = key(metric, boardId);
+            Long cardinality = redisTemplate.opsForZSet().zCard(key);
+            if (cardinality == null || cardinality == 0) {
+                return Optional.empty();
+            }
+
+            long total = Math.min(cardinality, size);
+            long start = pageable.getOffset();
+            if (start >= total) {
+                return Optional.of(new PageImpl<>(List.of(), pageable, total));
+            }
+            long end = Math.min(start + pageable.getPageSize(), total) - 1;
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+            List<Long> ids = members == null ? List.of()
+                    : members.stream().map(Long::valueOf).collect(Collectors.toList());
+            return Optional.of(new PageImpl<>(ids, pageable, total));
+        } catch (Exception e) {
+            log.warn("리더보드 조회 실패, SQL 정렬로 대체: metric={}, boardId={}", metric, boardId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 주기적 전체 재구성 (증분 갱신 누락/드리프트 보정).
+     */
+    @Scheduled(cron = "${leaderboard.rebuild-cron:0 */10 * * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> boardIds = boardCategoryCatalog.getAll().stream()
+                    .map(BoardCategoryResponse::getId)
+                    .collect(Collectors.toList());
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                replace(key(metric, null), topScores(metric, null));
+                for (Long boardId : boardIds) {
+                    replace(key(metric, boardId), topScores(metric, boardId));
+                }
+            }
+            log.info("리더보드 재구성 완료: boards={}, size={}", boardIds.size(), size);
+        } catch (Exception e) {
+            log.warn("리더보드 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 기동 시 리더보드 구성.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    private List<PostScore> topScores(LeaderboardMetric metric, Long boardId) {
+        return metric == LeaderboardMetric.LIKES
+                ? postRepository.findTopLikeScores(boardId, Limit.of(size))
+                : postRepository.findTopViewScores(boardId, Limit.of(size));
+    }
+
+    /**
+     * 임시 키에 채운 뒤 RENAME으로 교체하여 재구성 중에도 기존 리더보드를 읽을 수 있게 합니다.
+     * 여러 인스턴스가 동시에 재구성해도 서로의 임시 키를 지우거나 덮어쓰지 않도록 임시 키는 매번 고유하게 만듭니다.
+     */
+    private void replace(String key, List<PostScore> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String tmpKey = key + ":rebuild:" + UUID.randomUUID();
+        Set<ZSetOperations.TypedTuple<String>> tuples = scores.stream()
+                .map(PostLeaderboard::tuple)
+                .collect(Collectors.toSet());
+        try {
+            redisTemplate.opsForZSet().add(tmpKey, tuples);
+            redisTemplate.rename(tmpKey, key);
+        } catch (RuntimeException e) {
+            redisTemplate.delete(tmpKey);
+            throw e;
+        }
+    }
+
+    /**
+     * 상위 N건만 남기고 하위 항목 제거.
+     */
+    private void trim(String key) {
+        redisTemplate.opsForZSet().removeRange(key, 0, -(size + 1));
+    }
+
+    private static String key(LeaderboardMetric metric, Long boardId) {
+        return KEY_PREFIX + metric.getKey() + (boardId == null ? ":all" : ":board:" + boardId);
+    }
+
+    private static ZSetOperations.TypedTuple<String> tuple(PostScore score) {
+        return new DefaultTypedTuple<>(member(score.postId()), score.score().doubleValue());
+    }
+
+    /**
+     * 동점일 때 ZREVRANGE가 멤버 역순(= 최신 게시글 우선)으로 정렬되도록 ID를 0으로 채워 고정 길이로 저장합니다.
+     */
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+}
@@ -0,0 +1,273 @@
+package com.boardservice.service.ranking;
+
+import com.boardservice.dto.post.PostSummary;
+import com.boardservice.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 시간 감쇠 기반 트렌딩 랭킹 (인메모리).
+ * 인터랙션마다 {@code 가중치 × e^(λ·(t - base))}를 게시글 점수에 더해, 모든 점수가 같은 비율로 감쇠한다는 성질을 이용해
+ * 시간이 지나도 전체 재계산 없이 순서를 유지합니다 (λ = ln2 / 반감기).
+ *
+ * <p>점수는 전체 및 게시판별 정렬 집합(skip list)에 유지되어 상위 K건을 메모리에서 바로 반환합니다.
+ * 주기적 정비에서 기준 시각(base)을 현재로 옮겨 지수 증가로 인한 오버플로를 막고, 충분히 식은 게시글을 제거합니다.
+ * 인스턴스별로 자신이 처리한 이벤트만 반영하며, 기동 시 최근 게시글의 누적 카운터로 초기값을 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> global = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, NavigableSet<Entry>> boards = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+
+    private volatile long baseMillis = System.currentTimeMillis();
+
+    Clock clock = Clock.systemUTC();
+
+    @Value("${trending.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${trending.half-life:6h}")
+    private Duration halfLife = Duration.ofHours(6);
+
+    @Value("${trending.size:100}")
+    private int size = 100;
+
+    @Value("${trending.max-posts:50000}")
+    private int maxPosts = 50_000;
+
+    @Value("${trending.min-score:0.01}")
+    private double minScore = 0.01;
+
+    @Value("${trending.seed-size:1000}")
+    private int seedSize = 1000;
+
+    @Value("${trending.weights.like:3}")
+    private double likeWeight = 3;
+
+    @Value("${trending.weights.comment:4}")
+    private double commentWeight = 4;
+
+    @Value("${trending.weights.share:6}")
+    private double shareWeight = 6;
+
+    @Value("${trending.weights.view:0.2}")
+    private double viewWeight = 0.2;
+
+    /**
+     * 인터랙션 이벤트 반영 (커밋 후, 트랜잭션 밖에서 발행되면 즉시).
+     * 처음 보는 게시글은 게시판 ID를 한 번 조회하며, 삭제된 게시글은 건너뜁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        double weight = weightOf(event.type());
+        if (!enabled || weight == 0 || event.deltas().isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> boardIds = boardIdsOf(event.deltas().keySet());
+            long now = clock.millis();
+            rebaseLock.readLock().lock();
+            try {
+                double growth = growth(now);
+                event.deltas().forEach((postId, delta) -> {
+                    Long boardId = boardIds.get(postId);
+                    if (boardId != null) {
+                        add(postId, boardId, weight * delta * growth);
+                    }
+                });
+            } finally {
+                rebaseLock.readLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 반영 실패: type={}, posts={}", event.type(), event.deltas().size(), e);
+        }
+    }
+
+    /**
+     * 트렌딩 상위 K건의 게시글 ID (점수 내림차순).
+     *
+     * @param boardId 게시판 ID (null이면 전체)
+     * @return 게시글 ID 목록 (최대 {@code trending.size}건)
+     */
+    public List<Long> findTopPostIds(Long boardId) {
+        NavigableSet<Entry> ranking = boardId == null ? global : boards.get(boardId);
+        if (ranking == null) {
+            return List.of();
+        }
+        return ranking.stream()
+                .limit(size)
+                .map(Entry::postId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글의 현재(감쇠 적용) 트렌딩 점수.
+     */
+    double scoreOf(Long postId) {
+        Entry entry = entries.get(postId);
+        return entry == null ? 0 : entry.score() / growth(clock.millis());
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 식은 게시글 및 용량 초과분을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${trending.maintenance-interval:600000}")
+    public void rebase() {
+        rebaseLock.writeLock().lock();
+        try {
+            long now = clock.millis();
+            double factor = growth(now);
+            final List<Entry> survivors = entries.values().stream()
+                    .map(entry -> new Entry(entry.postId(), entry.boardId(), entry.score() / factor))
+                    .filter(entry -> entry.score() >= minScore)
+                    .sorted(ORDER)
+                    .limit(maxPosts)
+                    .collect(Collectors.toList());
+
+            final int before = entries.size();
+            entries.clear();
+            global.clear();
+            boards.clear();
+            baseMillis = now;
+            survivors.forEach(this::index);
+            log.debug("트렌딩 정비 완료: before={}, after={}", before, survivors.size());
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 최근 게시글의 누적 카운터를 작성 시각에 발생한 것으로 보고 초기 점수를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled || seedSize <= 0) {
+            return;
+        }
+        try {
+            List<PostSummary> posts = postRepository.findLatest(Limit.of(seedSize));
+            rebaseLock.readLock().lock();
+            try {
+                for (PostSummary post : posts) {
+                    double weighted = likeWeight * post.getLikeCount()
+                            + commentWeight * post.getCommentCount()
+                            + shareWeight * post.getShareCount()
+                            + viewWeight * post.getViewCount();
+                    long createdAt = post.getCreatedAt() == null ? clock.millis()
+                            : post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    if (weighted > 0) {
+                        add(post.getId(), post.getBoardId(), weighted * growth(createdAt));
+                    }
+                }
+            } finally {
+                rebaseLock.readLock().unlock();
+            }
+            log.info("트렌딩 초기화 완료: posts={}", posts.size());
+        } catch (Exception e) {
+            log.warn("트렌딩 초기화 실패 (이벤트로 점차 채워짐)", e);
+        }
+    }
+
+    private void add(Long postId, Long boardId, double amount) {
+        entries.compute(postId, (id, old) -> {
+            double score = Math.max(0, (old == null ? 0 : old.score()) + amount);
+            if (old != null) {
+                unindex(old);
+            }
+            Entry entry = new Entry(id, boardId, score);
+            global.add(entry);
+            boards.computeIfAbsent(boardId, key -> new ConcurrentSkipListSet<>(ORDER)).add(entry);
+            return entry;
+        });
+    }
+
+    private void index(Entry entry) {
+        entries.put(entry.postId(), entry);
+        global.add(entry);
+        boards.computeIfAbsent(entry.boardId(), key -> new ConcurrentSkipListSet<>(ORDER)).add(entry);
+    }
+
+    private void unindex(Entry entry) {
+        global.remove(entry);
+        NavigableSet<Entry> board = boards.get(entry.boardId());
+        if (board != null) {
+            board.remove(entry);
+        }
+    }
+
+    private Map<Long, Long> boardIdsOf(Set<Long> postIds) {
+        Map<Long, Long> boardIds = new HashMap<>();
+        List<Long> unknown = postIds.stream()
+                .filter(postId -> {
+                    Entry entry = entries.get(postId);
+                    if (entry != null) {
+                        boardIds.put(postId, entry.boardId());
+                    }
+                    return entry == null;
+                })
+                .collect(Collectors.toList());
+        if (!unknown.isEmpty()) {
+            postRepository.findSummariesByIdIn(unknown)
+                    .forEach(post -> boardIds.put(post.getId(), post.getBoardId()));
+        }
+        return boardIds;
+    }
+
+    /**
+     * 기준 시각 대비 {@code e^(λ·(t - base))}.
+     */
+    private double growth(long timeMillis) {
+        double lambda = Math.log(2) / halfLife.toMillis();
+        return Math.exp(lambda * (timeMillis - baseMillis));
+    }
+
+    private double weightOf(InteractionType type) {
+        return switch (type) {
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+            case SHARE -> shareWeight;
+            case VIEW -> viewWeight;
+            case BOOKMARK -> 0;
+        };
+    }
+
+    /**
+     * 게시글별 점수 (기준 시각으로 환산된 값).
+     */
+    private record Entry(Long postId, Long boardId, double score) {
+    }
+}
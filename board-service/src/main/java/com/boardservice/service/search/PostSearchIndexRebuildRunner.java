@@ -0,0 +1,34 @@
+package com.boardservice.service.search;
+
+import com.boardservice.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 전문 검색 인덱스 재생성 명령.
+ * 기동 인자 --post-search.rebuild-index=true 로 실행하면 FULLTEXT 인덱스를 다시 만듭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "post-search.rebuild-index", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndexRebuildRunner implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("게시글 전문 검색 인덱스 재생성 시작");
+        long startedAt = System.currentTimeMillis();
+
+        postRepository.rebuildFullTextIndex();
+
+        log.info("게시글 전문 검색 인덱스 재생성 완료: elapsed={}ms", System.currentTimeMillis() - startedAt);
+    }
+}
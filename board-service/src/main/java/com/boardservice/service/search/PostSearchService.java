@@ -0,0 +1,139 @@
+package com.boardservice.service.search;
+
+import com.boardservice.dto.post.PostResponse;
+import com.boardservice.dto.post.PostSearchResponse;
+import com.boardservice.entity.Post;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.repository.PostSearchHit;
+import com.boardservice.service.UserInfoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 전문 검색 서비스.
+ * MySQL FULLTEXT(ngram parser) 인덱스로 관련도 순 검색을 수행하고,
+ * ngram 토큰보다 짧은 검색어나 인덱스 장애 시에는 기존 LIKE 검색으로 대체합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchService {
+
+    /**
+     * MySQL ngram_token_size 기본값 (이보다 짧은 검색어는 인덱스로 찾을 수 없음).
+     */
+    static final int MIN_TERM_LENGTH = 2;
+
+    private static final int SNIPPET_LENGTH = 200;
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    private final PostRepository postRepository;
+    private final UserInfoService userInfoService;
+
+    @Value("${post-search.full-text-enabled:true}")
+    private boolean fullTextEnabled = true;
+
+    /**
+     * 게시글 검색 (관련도 순, 하이라이트 포함).
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSearchResponse> search(String keyword, Pageable pageable) {
+        List<String> terms = extractTerms(keyword);
+        SearchHighlighter highlighter = new SearchHighlighter(terms);
+
+        boolean indexable = !terms.isEmpty()
+                && terms.stream().allMatch(term -> term.length() >= MIN_TERM_LENGTH);
+        if (fullTextEnabled && indexable) {
+            try {
+                return searchFullText(toBooleanQuery(terms), pageable, highlighter);
+            } catch (DataAccessException e) {
+                log.warn("전문 검색 실패, LIKE 검색으로 대체: keyword={}", keyword, e);
+            }
+        }
+
+        Page<Post> posts = postRepository.searchByKeyword(keyword, pageable);
+        Map<Long, String> usernames = getUsernames(posts.getContent());
+        return posts.map(post -> toResponse(post, usernames, null, highlighter));
+    }
+
+    private Page<PostSearchResponse> searchFullText(String booleanQuery, Pageable pageable,
+                                                    SearchHighlighter highlighter) {
+        long total = postRepository.countFullText(booleanQuery);
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        List<PostSearchHit> hits = postRepository.searchFullText(
+                booleanQuery, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Post> posts = postRepository.findAllWithBoardByIdIn(
+                        hits.stream().map(PostSearchHit::getPostId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, String> usernames = getUsernames(posts.values());
+
+        // 조회 사이에 삭제된 게시글은 제외하고 관련도 순서 유지
+        List<PostSearchResponse> content = hits.stream()
+                .filter(hit -> posts.containsKey(hit.getPostId()))
+                .map(hit -> toResponse(posts.get(hit.getPostId()), usernames, hit.getScore(), highlighter))
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 검색어를 공백 기준으로 분리하고 BOOLEAN MODE 연산자 문자 제거.
+     */
+    static List<String> extractTerms(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        return Arrays.stream(BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 검색어를 포함하는 BOOLEAN MODE 검색식 (ngram 구문 검색).
+     */
+    static String toBooleanQuery(List<String> terms) {
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private Map<Long, String> getUsernames(Collection<Post> posts) {
+        Set<Long> userIds = posts.stream()
+                .map(Post::getUserId)
+                .collect(Collectors.toSet());
+        return userInfoService.getUsernames(userIds);
+    }
+
+    private PostSearchResponse toResponse(Post post, Map<Long, String> usernames, Double score,
+                                          SearchHighlighter highlighter) {
+        return PostSearchResponse.builder()
+                .post(PostResponse.from(post, usernames.get(post.getUserId())))
+                .score(score)
+                .titleHighlight(highlighter.highlight(post.getTitle()))
+                .contentHighlight(highlighter.snippet(post.getContent(), SNIPPET_LENGTH))
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.boardservice.service.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 하이라이트.
+ * 원문은 HTML 이스케이프하고 일치 구간만 &lt;em&gt;으로 감쌉니다.
+ */
+class SearchHighlighter {
+
+    private static final String ELLIPSIS = "...";
+
+    private final Pattern pattern;
+
+    SearchHighlighter(List<String> terms) {
+        this.pattern = terms.isEmpty() ? null : Pattern.compile(
+                terms.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * 전체 문자열 하이라이트 (제목용).
+     */
+    String highlight(String text) {
+        if (text == null) {
+            return null;
+        }
+        return highlight(text, 0, text.length());
+    }
+
+    /**
+     * 첫 일치 구간 주변 요약 하이라이트 (본문용).
+     */
+    String snippet(String text, int length) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() <= length) {
+            return highlight(text);
+        }
+
+        int start = 0;
+        if (pattern != null) {
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find()) {
+                start = Math.max(0, Math.min(matcher.start() - length / 4, text.length() - length));
+            }
+        }
+        int end = Math.min(text.length(), start + length);
+
+        return (start > 0 ? ELLIPSIS : "")
+                + highlight(text, start, end)
+                + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private String highlight(String text, int start, int end) {
+        if (pattern == null) {
+            return HtmlUtils.htmlEscape(text.substring(start, end));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Matcher matcher = pattern.matcher(text).region(start, end);
+        int last = start;
+        while (matcher.find()) {
+            sb.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append("</em>");
+            last = matcher.end();
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(last, end)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.boardservice.service.view;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (postId, userId) 쌍을 위한 스레드 안전 Bloom filter.
+ * 거짓 양성(첫 조회를 중복으로 판단)은 설정한 확률 이내로 발생하며, 거짓 음성은 없습니다.
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64L, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    /**
+     * 원소 추가.
+     *
+     * @return 새로 추가되었으면 true (이미 존재했을 가능성이 있으면 false)
+     */
+    boolean put(long first, long second) {
+        long h1 = mix(first * 0x9E3779B97F4A7C15L + second);
+        long h2 = mix(h1 ^ second) | 1L;
+        boolean changed = false;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            changed |= setBit(index);
+        }
+        return changed;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    /**
+     * 64비트 해시 혼합 (SplitMix64 finalizer).
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,53 @@
+package com.boardservice.service.view;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 일자별로 교체되는 메모리 Bloom filter 기반 중복 판별.
+ * view_histories 행을 쓰지 않으므로 조회 경로에서 DB 조회/INSERT가 사라집니다.
+ * 인스턴스별 메모리 상태이므로 재시작 또는 다중 인스턴스 환경에서는 중복 카운트가 일부 허용됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "view-count.dedup-strategy", havingValue = "bloom")
+public class BloomFilterViewDeduplicator implements ViewDeduplicator {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final AtomicReference<DailyFilter> current = new AtomicReference<>();
+
+    public BloomFilterViewDeduplicator(
+            @Value("${view-count.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${view-count.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public boolean markFirstView(Long postId, Long userId, LocalDate viewDate) {
+        return filterFor(viewDate).put(postId, userId);
+    }
+
+    /**
+     * 조회 일자의 filter 반환 (날짜가 바뀌면 새 filter로 교체).
+     * 이전 일자의 지연된 요청은 현재 filter에 기록됩니다.
+     */
+    private BloomFilter filterFor(LocalDate viewDate) {
+        DailyFilter daily = current.get();
+        while (daily == null || daily.date().isBefore(viewDate)) {
+            DailyFilter next = new DailyFilter(viewDate, new BloomFilter(expectedInsertions, falsePositiveRate));
+            if (current.compareAndSet(daily, next)) {
+                return next.filter();
+            }
+            daily = current.get();
+        }
+        return daily.filter();
+    }
+
+    private record DailyFilter(LocalDate date, BloomFilter filter) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.boardservice.service.view;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Redis SET 기반 중복 판별 (redis, 정확).
+ * 게시글·일자별 SET에 사용자 ID를 SADD하여 새로 추가된 경우만 첫 조회로 판단합니다.
+ * SADD와 EXPIRE는 Lua 스크립트 한 번으로 원자적으로 실행되므로 왕복은 조회당 1회이고,
+ * 중간에 프로세스가 죽어도 만료 없는 키가 남지 않습니다.
+ * 인스턴스 간 상태가 공유되며, 키는 이틀 뒤 만료됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "view-count.dedup-strategy", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisSetViewDeduplicator implements ViewDeduplicator {
+
+    private static final String KEY_PREFIX = "views:set:";
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    /** 새 멤버면 만료 시간을 (다시) 설정하고 SADD 결과를 반환합니다. */
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+            "local added = redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "if added == 1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return added",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean markFirstView(Long postId, Long userId, LocalDate viewDate) {
+        Long added = redisTemplate.execute(MARK_SCRIPT, List.of(key(postId, viewDate)),
+                String.valueOf(userId), String.valueOf(KEY_TTL.toSeconds()));
+        return added != null && added == 1;
+    }
+
+    /**
+     * 게시글의 일자별 고유 조회자 수 (SCARD, 정확).
+     */
+    public long countUniqueViewers(Long postId, LocalDate viewDate) {
+        Long count = redisTemplate.opsForSet().size(key(postId, viewDate));
+        return count == null ? 0L : count;
+    }
+
+    private String key(Long postId, LocalDate viewDate) {
+        return KEY_PREFIX + postId + ":" + viewDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
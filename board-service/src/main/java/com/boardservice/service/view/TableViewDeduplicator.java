@@ -0,0 +1,42 @@
+package com.boardservice.service.view;
+
+import com.boardservice.entity.ViewHistory;
+import com.boardservice.repository.ViewHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * view_histories 테이블 기반 중복 판별 (정확, 기본값).
+ */
+@Component
+@ConditionalOnProperty(name = "view-count.dedup-strategy", havingValue = "table", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TableViewDeduplicator implements ViewDeduplicator {
+
+    private final ViewHistoryRepository viewHistoryRepository;
+
+    @Override
+    @Transactional
+    public boolean markFirstView(Long postId, Long userId, LocalDate viewDate) {
+        if (viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(postId, userId, viewDate)) {
+            return false;
+        }
+
+        ViewHistory history = ViewHistory.builder()
+                .postId(postId)
+                .userId(userId)
+                .viewDate(viewDate)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        viewHistoryRepository.save(history);
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.boardservice.service.view;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 조회 중복 판별 전략.
+ * {@code view-count.dedup-strategy} 설정으로 구현체를 선택합니다 (table, bloom, redis).
+ */
+public interface ViewDeduplicator {
+
+    /**
+     * 해당 일자의 첫 조회인지 확인하고 조회 사실을 기록.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (비로그인은 0)
+     * @param viewDate 조회 일자
+     * @return 첫 조회이면 true (조회수 증가 대상)
+     */
+    boolean markFirstView(Long postId, Long userId, LocalDate viewDate);
+}
@@ -0,0 +1,9 @@
+-- posts.excerpt 백필 스크립트 (MySQL 8)
+-- 목록 조회는 본문 대신 excerpt만 읽으므로, 컬럼 추가 이전 게시글의 excerpt를 채웁니다.
+-- 이후 저장/수정되는 게시글은 Post 엔티티가 excerpt를 갱신합니다.
+-- 잠금 범위를 줄이기 위해 영향받은 행이 0이 될 때까지 반복 실행합니다.
+
+UPDATE posts
+SET excerpt = IF(CHAR_LENGTH(content) > 200, CONCAT(SUBSTRING(content, 1, 200), '...'), content)
+WHERE excerpt IS NULL
+LIMIT 5000;
@@ -0,0 +1,6 @@
+-- posts 전문 검색 인덱스 (MySQL 8, ngram parser)
+-- 한국어는 공백 단위 토큰화가 맞지 않으므로 ngram parser(ngram_token_size 기본값 2)를 사용합니다.
+-- 재생성은 기동 인자 --post-search.rebuild-index=true 로도 실행할 수 있습니다 (PostSearchIndexRebuildRunner).
+
+ALTER TABLE posts
+    ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
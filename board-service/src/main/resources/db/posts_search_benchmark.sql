@@ -0,0 +1,28 @@
+-- 게시글 검색 쿼리 비교 (MySQL 8.0.18+ EXPLAIN ANALYZE)
+-- 운영 규모 데이터에서 기존 LIKE 검색과 FULLTEXT(ngram) 검색의 실행 계획과 소요 시간을 비교합니다.
+-- @keyword 는 실제 검색어로 바꿔 실행합니다.
+
+SET @keyword = '게시판';
+
+-- 1. 기존 LIKE 검색 (PostRepository.searchByKeyword): 전체 테이블 스캔
+EXPLAIN ANALYZE
+SELECT id FROM posts
+WHERE title LIKE CONCAT('%', @keyword, '%') OR content LIKE CONCAT('%', @keyword, '%')
+ORDER BY created_at DESC
+LIMIT 20;
+
+SELECT COUNT(*) FROM posts
+WHERE title LIKE CONCAT('%', @keyword, '%') OR content LIKE CONCAT('%', @keyword, '%');
+
+-- 2. FULLTEXT 검색 (PostRepositoryCustomImpl.searchFullText): ft_posts_title_content 사용
+SET @query = CONCAT('+"', @keyword, '"');
+
+EXPLAIN ANALYZE
+SELECT id, MATCH(title, content) AGAINST (@query IN BOOLEAN MODE) AS score
+FROM posts
+WHERE MATCH(title, content) AGAINST (@query IN BOOLEAN MODE)
+ORDER BY score DESC, id DESC
+LIMIT 20;
+
+SELECT COUNT(*) FROM posts
+WHERE MATCH(title, content) AGAINST (@query IN BOOLEAN MODE);
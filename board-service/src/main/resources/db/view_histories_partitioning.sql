@@ -0,0 +1,14 @@
+-- view_histories 일자별 RANGE 파티션 전환 스크립트 (MySQL 8)
+-- view-history.purge.mode=partition 설정 시 사용합니다.
+-- 파티션 키(view_date)는 모든 UNIQUE 키에 포함되어야 하므로 PK를 (id, view_date)로 변경합니다.
+-- 전환 이전 이력은 pmax에 남으므로 chunked 모드로 먼저 정리한 뒤 전환합니다.
+-- 이후 일자 파티션(pYYYYMMDD)은 ViewHistoryPurgeService가 매일 미리 생성하고, 보관 기간이 지난 파티션은 DROP PARTITION으로 삭제합니다.
+
+ALTER TABLE view_histories
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, view_date);
+
+ALTER TABLE view_histories
+    PARTITION BY RANGE (TO_DAYS(view_date)) (
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
@@ -8,6 +8,9 @@ import com.boardservice.dto.board.BoardCategoryResponse;
 import com.boardservice.dto.board.CreateBoardCategoryRequest;
 import com.boardservice.entity.BoardCategory;
 import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.category.BoardCategoryCatalog;
+import com.boardservice.service.category.BoardCategoryChangedEvent;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +19,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -32,6 +37,15 @@ class BoardCategoryServiceTest {
     @Mock
     private BoardCategoryRepository boardCategoryRepository;
 
+    @Mock
+    private BoardCategoryCatalog boardCategoryCatalog;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BoardCategoryService boardCategoryService;
 
@@ -71,6 +85,7 @@ class BoardCategoryServiceTest {
 
         verify(boardCategoryRepository).existsByName("자유게시판");
         verify(boardCategoryRepository).save(any(BoardCategory.class));
+        verify(eventPublisher).publishEvent(new BoardCategoryChangedEvent(1L));
     }
 
     @Test
@@ -99,7 +114,8 @@ class BoardCategoryServiceTest {
                 .postCount(0)
                 .build();
 
-        given(boardCategoryRepository.findAll()).willReturn(Arrays.asList(boardCategory, category2));
+        given(boardCategoryCatalog.getAll()).willReturn(Arrays.asList(
+                BoardCategoryResponse.from(boardCategory), BoardCategoryResponse.from(category2)));
 
         // when
         List<BoardCategoryResponse> responses = boardCategoryService.getAllBoardCategories();
@@ -109,15 +125,15 @@ class BoardCategoryServiceTest {
         assertThat(responses.get(0).getName()).isEqualTo("자유게시판");
         assertThat(responses.get(1).getName()).isEqualTo("공지사항");
 
-        verify(boardCategoryRepository).findAll();
+        verify(boardCategoryRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("활성화된 게시판 목록 조회")
     void getActiveBoardCategories_Success() {
         // given
-        given(boardCategoryRepository.findByIsActiveTrueOrderByCreatedAtAsc())
-                .willReturn(Arrays.asList(boardCategory));
+        given(boardCategoryCatalog.getActive())
+                .willReturn(Arrays.asList(BoardCategoryResponse.from(boardCategory)));
 
         // when
         List<BoardCategoryResponse> responses = boardCategoryService.getActiveBoardCategories();
@@ -127,14 +143,14 @@ class BoardCategoryServiceTest {
         assertThat(responses.get(0).getName()).isEqualTo("자유게시판");
         assertThat(responses.get(0).getIsActive()).isTrue();
 
-        verify(boardCategoryRepository).findByIsActiveTrueOrderByCreatedAtAsc();
+        verify(boardCategoryCatalog).getActive();
     }
 
     @Test
     @DisplayName("게시판 단건 조회 성공")
     void getBoardCategory_Success() {
         // given
-        given(boardCategoryRepository.findById(1L)).willReturn(Optional.of(boardCategory));
+        given(boardCategoryCatalog.find(1L)).willReturn(Optional.of(BoardCategoryResponse.from(boardCategory)));
 
         // when
         BoardCategoryResponse response = boardCategoryService.getBoardCategory(1L);
@@ -143,21 +159,21 @@ class BoardCategoryServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getName()).isEqualTo("자유게시판");
 
-        verify(boardCategoryRepository).findById(1L);
+        verify(boardCategoryCatalog).find(1L);
     }
 
     @Test
     @DisplayName("게시판 단건 조회 실패 - 존재하지 않는 게시판")
     void getBoardCategory_Fail_NotFound() {
         // given
-        given(boardCategoryRepository.findById(999L)).willReturn(Optional.empty());
+        given(boardCategoryCatalog.find(999L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> boardCategoryService.getBoardCategory(999L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시판을 찾을 수 없습니다");
 
-        verify(boardCategoryRepository).findById(999L);
+        verify(boardCategoryCatalog).find(999L);
     }
 
     @Test
@@ -231,21 +247,37 @@ class BoardCategoryServiceTest {
         // then
         verify(boardCategoryRepository).findById(1L);
         verify(boardCategoryRepository).delete(boardCategory);
+        verify(eventPublisher).publishEvent(new BoardCategoryChangedEvent(1L));
     }
 
     @Test
-    @DisplayName("게시판 삭제 실패 - 게시글이 존재함")
+    @DisplayName("게시판 삭제 실패 - 게시글이 존재함 (다른 인스턴스에서 post_count 반영 전인 게시글 포함)")
     void deleteBoardCategory_Fail_HasPosts() {
         // given
-        boardCategory.incrementPostCount();
         given(boardCategoryRepository.findById(1L)).willReturn(Optional.of(boardCategory));
+        given(postRepository.countByBoardId(1L)).willReturn(1L);
 
         // when & then
         assertThatThrownBy(() -> boardCategoryService.deleteBoardCategory(1L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시글이 존재하는 게시판은 삭제할 수 없습니다");
 
-        verify(boardCategoryRepository).findById(1L);
+        verify(boardCategoryRepository, never()).delete(any(BoardCategory.class));
+    }
+
+    @Test
+    @DisplayName("게시판 삭제 성공 - post_count가 어긋나 있어도 실제 게시글이 없으면 삭제")
+    void deleteBoardCategory_Success_StalePostCount() {
+        // given
+        boardCategory.incrementPostCount();
+        given(boardCategoryRepository.findById(1L)).willReturn(Optional.of(boardCategory));
+
+        // when
+        boardCategoryService.deleteBoardCategory(1L);
+
+        // then
+        verify(postRepository).countByBoardId(1L);
+        verify(boardCategoryRepository).delete(boardCategory);
     }
 
     @Test
@@ -273,6 +305,7 @@ class BoardCategoryServiceTest {
 
         // then
         assertThat(boardCategory.getIsActive()).isFalse();
+        verify(eventPublisher).publishEvent(new BoardCategoryChangedEvent(1L));
 
         verify(boardCategoryRepository).findById(1L);
     }
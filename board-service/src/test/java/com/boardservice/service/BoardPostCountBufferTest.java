@@ -0,0 +1,106 @@
+package com.boardservice.service;
+
+import java.util.Map;
+
+import com.boardservice.repository.BoardCategoryRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoardPostCountBuffer 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardPostCountBufferTest {
+
+    @Mock
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BoardPostCountBuffer boardPostCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        boardPostCountBuffer = new BoardPostCountBuffer(boardCategoryRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("flush - 게시판별 누적 증감량을 한 번에 반영 (상쇄된 게시판 제외)")
+    void flush_Success() {
+        // given
+        boardPostCountBuffer.add(1L, 1);
+        boardPostCountBuffer.add(1L, 1);
+        boardPostCountBuffer.add(2L, -1);
+        boardPostCountBuffer.add(3L, 1);
+        boardPostCountBuffer.add(3L, -1);
+
+        // when
+        boardPostCountBuffer.flush();
+
+        // then
+        verify(boardCategoryRepository).addPostCounts(Map.of(1L, 2L, 2L, -1L));
+        verify(eventPublisher).publishEvent(
+                new BoardPostCountBuffer.BoardPostCountsFlushedEvent(Map.of(1L, 2L, 2L, -1L)));
+        assertThat(boardPostCountBuffer.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 누적된 증감량이 없으면 DB 호출 없음")
+    void flush_Empty() {
+        // when
+        boardPostCountBuffer.flush();
+
+        // then
+        verify(boardCategoryRepository, never()).addPostCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 증감량을 버퍼에 되돌림")
+    void flush_Fail_RestoresDeltas() {
+        // given
+        boardPostCountBuffer.add(1L, 1);
+        doThrow(new RuntimeException("DB unavailable")).when(boardCategoryRepository).addPostCounts(anyMap());
+
+        // when
+        boardPostCountBuffer.flush();
+
+        // then
+        assertThat(boardPostCountBuffer.getPendingCount(1L)).isEqualTo(1L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감량은 커밋 후에만 누적")
+    void add_AccumulatesAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            boardPostCountBuffer.add(1L, 1);
+
+            // then
+            assertThat(boardPostCountBuffer.getPendingCount(1L)).isZero();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(boardPostCountBuffer.getPendingCount(1L)).isEqualTo(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package com.boardservice.service;
 
-import com.boardservice.client.UserServiceClient;
 import com.boardservice.dto.BoardResponse;
 import com.boardservice.dto.CreateBoardRequest;
 import com.boardservice.dto.UpdateBoardRequest;
 import com.boardservice.entity.Board;
 import com.boardservice.repository.BoardRepository;
-import com.common.dto.ApiResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,7 +35,7 @@ class BoardServiceTest {
     private BoardRepository boardRepository;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserInfoService userInfoService;
 
     @InjectMocks
     private BoardService boardService;
@@ -45,7 +43,6 @@ class BoardServiceTest {
     private Board board;
     private CreateBoardRequest createRequest;
     private UpdateBoardRequest updateRequest;
-    private UserServiceClient.UserResponse userResponse;
 
     @BeforeEach
     void setUp() {
@@ -66,9 +63,6 @@ class BoardServiceTest {
                 .userId(1L)
                 .build();
 
-        userResponse = new UserServiceClient.UserResponse();
-        // UserResponse는 setter가 없으므로 reflection이나 @AllArgsConstructor 사용 필요
-        // 현재는 Mock으로 ApiResponse를 반환하도록 설정
     }
 
     @Test
@@ -76,8 +70,7 @@ class BoardServiceTest {
     void createBoard_Success() {
         // given
         given(boardRepository.save(any(Board.class))).willReturn(board);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         BoardResponse response = boardService.createBoard(1L, createRequest);
@@ -88,7 +81,7 @@ class BoardServiceTest {
         assertThat(response.getContent()).isEqualTo("테스트 내용");
 
         verify(boardRepository).save(any(Board.class));
-        verify(userServiceClient).getUser(1L);
+        verify(userInfoService).getUsername(1L);
     }
 
     @Test
@@ -103,8 +96,7 @@ class BoardServiceTest {
                 .build();
 
         given(boardRepository.findAllByOrderByCreatedAtDesc()).willReturn(Arrays.asList(board, board2));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         List<BoardResponse> responses = boardService.getAllBoards();
@@ -122,8 +114,7 @@ class BoardServiceTest {
     void getBoard_Success() {
         // given
         given(boardRepository.findById(1L)).willReturn(Optional.of(board));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         BoardResponse response = boardService.getBoard(1L);
@@ -133,7 +124,7 @@ class BoardServiceTest {
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
 
         verify(boardRepository).findById(1L);
-        verify(userServiceClient).getUser(1L);
+        verify(userInfoService).getUsername(1L);
     }
 
     @Test
@@ -155,8 +146,7 @@ class BoardServiceTest {
     void updateBoard_Success() {
         // given
         given(boardRepository.findById(1L)).willReturn(Optional.of(board));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         BoardResponse response = boardService.updateBoard(1L, 1L, updateRequest);
@@ -167,7 +157,7 @@ class BoardServiceTest {
         assertThat(response.getContent()).isEqualTo("수정된 내용");
 
         verify(boardRepository).findById(1L);
-        verify(userServiceClient).getUser(1L);
+        verify(userInfoService).getUsername(1L);
     }
 
     @Test
@@ -239,21 +229,4 @@ class BoardServiceTest {
 
         verify(boardRepository).findById(1L);
     }
-
-    @Test
-    @DisplayName("UserService 호출 실패 시 Unknown 반환")
-    void getUsername_Fail_ReturnsUnknown() {
-        // given
-        given(boardRepository.findById(1L)).willReturn(Optional.of(board));
-        given(userServiceClient.getUser(anyLong())).willThrow(new RuntimeException("UserService unavailable"));
-
-        // when
-        BoardResponse response = boardService.getBoard(1L);
-
-        // then
-        assertThat(response).isNotNull();
-        assertThat(response.getUsername()).isEqualTo("Unknown");
-
-        verify(userServiceClient).getUser(1L);
-    }
 }
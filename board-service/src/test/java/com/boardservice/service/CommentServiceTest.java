@@ -1,11 +1,19 @@
 package com.boardservice.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
-import com.boardservice.client.UserServiceClient;
+import com.boardservice.dto.CursorResponse;
+import com.boardservice.dto.comment.CommentCursor;
 import com.boardservice.dto.comment.CommentResponse;
+import com.boardservice.dto.comment.CommentSummary;
 import com.boardservice.dto.comment.CreateCommentRequest;
 import com.boardservice.dto.comment.UpdateCommentRequest;
 import com.boardservice.entity.BoardCategory;
@@ -15,25 +23,34 @@ import com.boardservice.exception.CommentNotFoundException;
 import com.boardservice.exception.PostNotFoundException;
 import com.boardservice.repository.CommentRepository;
 import com.boardservice.repository.PostRepository;
-import com.common.dto.ApiResponse;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -49,7 +66,13 @@ class CommentServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserInfoService userInfoService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private CommentService commentService;
@@ -58,7 +81,6 @@ class CommentServiceTest {
     private Comment comment;
     private CreateCommentRequest createRequest;
     private UpdateCommentRequest updateRequest;
-    private UserServiceClient.UserResponse userResponse;
 
     @BeforeEach
     void setUp() {
@@ -93,17 +115,16 @@ class CommentServiceTest {
                 .content("수정된 댓글")
                 .build();
 
-        userResponse = new UserServiceClient.UserResponse();
     }
 
     @Test
     @DisplayName("댓글 작성 성공")
     void createComment_Success() {
         // given
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.addCommentCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         CommentResponse response = commentService.createComment(1L, 1L, createRequest);
@@ -112,23 +133,29 @@ class CommentServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getContent()).isEqualTo("테스트 댓글");
 
-        verify(postRepository).findById(1L);
-        verify(commentRepository).save(any(Comment.class));
-        verify(userServiceClient).getUser(1L);
+        InOrder inOrder = inOrder(transactionManager, postRepository, commentRepository, userInfoService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(postRepository).addCommentCount(1L, 1);
+        inOrder.verify(commentRepository).save(any(Comment.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(userInfoService).getUsername(1L);
+        verify(eventPublisher).publishEvent(PostInteractionEvent.of(InteractionType.COMMENT, 1L, 1L));
     }
 
     @Test
     @DisplayName("댓글 작성 실패 - 존재하지 않는 게시글")
     void createComment_Fail_PostNotFound() {
         // given
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.addCommentCount(999L, 1)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> commentService.createComment(1L, 999L, createRequest))
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
 
-        verify(postRepository).findById(999L);
+        verify(postRepository).addCommentCount(999L, 1);
+        verify(transactionManager).rollback(any());
+        verify(userInfoService, never()).getUsername(anyLong());
     }
 
     @Test
@@ -144,8 +171,7 @@ class CommentServiceTest {
 
         given(commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(1L))
                 .willReturn(Arrays.asList(comment, comment2));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester", 2L, "Unknown"));
 
         // when
         List<CommentResponse> responses = commentService.getComments(1L);
@@ -154,8 +180,73 @@ class CommentServiceTest {
         assertThat(responses).hasSize(2);
         assertThat(responses.get(0).getContent()).isEqualTo("테스트 댓글");
         assertThat(responses.get(1).getContent()).isEqualTo("두번째 댓글");
+        assertThat(responses.get(0).getUsername()).isEqualTo("tester");
+        assertThat(responses.get(1).getUsername()).isEqualTo("Unknown");
 
         verify(commentRepository).findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(1L);
+        verify(userInfoService).getUsernames(Set.of(1L, 2L));
+        verify(userInfoService, never()).getUsername(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 - 1건 더 조회해 다음 커서 생성")
+    void getCommentsByCursor_FirstPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(commentRepository.findFirstByPostId(1L, Limit.of(3)))
+                .willReturn(List.of(summary(1L, 1L, createdAt), summary(2L, 2L, createdAt), summary(3L, 1L, createdAt)));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester", 2L, "other"));
+
+        // when
+        CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(1L, null, 2);
+
+        // then
+        assertThat(response.getContent()).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+        assertThat(response.getContent()).extracting(CommentResponse::getUsername).containsExactly("tester", "other");
+        assertThat(response.isHasNext()).isTrue();
+        CommentCursor next = CommentCursor.decode(response.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("댓글 커서 조회 - 커서 이후 마지막 페이지")
+    void getCommentsByCursor_LastPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = CommentCursor.from(summary(2L, 2L, createdAt)).encode();
+        given(commentRepository.findByPostIdAfter(1L, createdAt, 2L, Limit.of(3)))
+                .willReturn(List.of(summary(3L, 1L, createdAt)));
+        given(userInfoService.getUsernames(Set.of(1L))).willReturn(Map.of(1L, "tester"));
+
+        // when
+        CursorResponse<CommentResponse> response = commentService.getCommentsByCursor(1L, cursor, 2);
+
+        // then
+        assertThat(response.getContent()).extracting(CommentResponse::getId).containsExactly(3L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글 스트리밍 - 일정 건수씩 작성자명을 일괄 조회하며 순서대로 전달")
+    void streamComments_Success() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Stream<CommentSummary> comments = LongStream.rangeClosed(1, 450)
+                .mapToObj(id -> summary(id, id % 3, createdAt));
+        given(commentRepository.streamByPostId(1L)).willReturn(comments);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(0L, "a", 1L, "b", 2L, "c"));
+        List<CommentResponse> received = new ArrayList<>();
+
+        // when
+        commentService.streamComments(1L, received::add);
+
+        // then
+        assertThat(received).hasSize(450);
+        assertThat(received).extracting(CommentResponse::getId).isSorted();
+        assertThat(received.get(0).getUsername()).isEqualTo("b");
+        verify(userInfoService, times(3)).getUsernames(anySet());
     }
 
     @Test
@@ -167,8 +258,7 @@ class CommentServiceTest {
 
         given(commentRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(1L, pageable))
                 .willReturn(commentPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
         Page<CommentResponse> responses = commentService.getCommentsByUser(1L, pageable);
@@ -186,8 +276,7 @@ class CommentServiceTest {
     void updateComment_Success() {
         // given
         given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         CommentResponse response = commentService.updateComment(1L, 1L, updateRequest);
@@ -256,6 +345,8 @@ class CommentServiceTest {
         assertThat(comment.getContent()).isEqualTo("삭제된 댓글입니다.");
 
         verify(commentRepository).findById(1L);
+        verify(postRepository).addCommentCount(1L, -1);
+        verify(eventPublisher).publishEvent(PostInteractionEvent.of(InteractionType.COMMENT, 1L, -1L));
     }
 
     @Test
@@ -301,21 +392,7 @@ class CommentServiceTest {
         verify(commentRepository).findById(1L);
     }
 
-    @Test
-    @DisplayName("UserService 호출 실패 시 Unknown 반환")
-    void getUsername_Fail_ReturnsUnknown() {
-        // given
-        given(commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(1L))
-                .willReturn(Arrays.asList(comment));
-        given(userServiceClient.getUser(anyLong())).willThrow(new RuntimeException("UserService unavailable"));
-
-        // when
-        List<CommentResponse> responses = commentService.getComments(1L);
-
-        // then
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).getUsername()).isEqualTo("Unknown");
-
-        verify(userServiceClient).getUser(1L);
+    private CommentSummary summary(Long id, Long userId, LocalDateTime createdAt) {
+        return new CommentSummary(id, "댓글 " + id, userId, 1L, false, createdAt, createdAt);
     }
 }
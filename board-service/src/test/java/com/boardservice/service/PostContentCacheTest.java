@@ -0,0 +1,63 @@
+package com.boardservice.service;
+
+import java.time.LocalDateTime;
+
+import com.boardservice.dto.post.PostContent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostContentCache 단위 테스트.
+ */
+class PostContentCacheTest {
+
+    private Cache<Long, PostContent> cache;
+    private PostContentCache postContentCache;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().build();
+        postContentCache = new PostContentCache(cache);
+    }
+
+    @Test
+    @DisplayName("수정 시각이 같으면 캐시 적중, 무효화 후에는 다시 로드")
+    void get_HitAndInvalidate() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        postContentCache.get(1L, updatedAt, () -> content("본문", updatedAt));
+
+        // when
+        PostContent hit = postContentCache.get(1L, updatedAt, () -> content("다시 로드", updatedAt));
+        postContentCache.invalidate(1L);
+        PostContent reloaded = postContentCache.get(1L, updatedAt, () -> content("다시 로드", updatedAt));
+
+        // then
+        assertThat(hit.getContent()).isEqualTo("본문");
+        assertThat(reloaded.getContent()).isEqualTo("다시 로드");
+    }
+
+    @Test
+    @DisplayName("본문이 최대 길이를 넘으면 캐시하지 않음")
+    void get_SkipsOversizedContent() {
+        // given
+        String large = "가".repeat(20_001);
+
+        // when
+        PostContent loaded = postContentCache.get(1L, null, () -> content(large, null));
+
+        // then
+        assertThat(loaded.getContent()).hasSize(20_001);
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    private PostContent content(String body, LocalDateTime updatedAt) {
+        return new PostContent(1L, "제목", body, 1L, 1L, "자유게시판", updatedAt, updatedAt);
+    }
+}
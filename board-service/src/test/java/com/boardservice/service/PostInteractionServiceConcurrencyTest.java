@@ -0,0 +1,135 @@
+package com.boardservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.entity.Post;
+import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.repository.BookmarkRepository;
+import com.boardservice.repository.PostLikeRepository;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.repository.PostShareRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostInteractionService 동시성 테스트 (H2).
+ * 같은 게시글에 대한 병렬 좋아요/취소에서 카운터 갱신이 유실되지 않는지 검증합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostInteractionServiceConcurrencyTest {
+
+    private static final int USERS = 100;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private PostShareRepository postShareRepository;
+
+    @Autowired
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private PostInteractionService postInteractionService;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        postInteractionService = new PostInteractionService(
+                postRepository, postLikeRepository, bookmarkRepository, postShareRepository, event -> { });
+
+        BoardCategory board = boardCategoryRepository.save(BoardCategory.builder()
+                .name("동시성")
+                .isActive(true)
+                .postCount(0)
+                .build());
+        postId = postRepository.save(Post.builder()
+                .title("동시성 테스트")
+                .content("병렬 좋아요")
+                .userId(1L)
+                .board(board)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        boardCategoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("병렬 좋아요 추가/취소 - 갱신 유실 없음")
+    void parallelLikes_NoLostUpdates() throws Exception {
+        // when
+        runInParallel(userId -> postInteractionService.likePost(userId, postId));
+
+        // then
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(USERS);
+
+        // when
+        runInParallel(userId -> {
+            if (userId % 2 == 0) {
+                postInteractionService.unlikePost(userId, postId);
+            }
+        });
+
+        // then
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(USERS / 2);
+        assertThat(postLikeRepository.count()).isEqualTo(USERS / 2);
+    }
+
+    private void runInParallel(UserAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= USERS; userId++) {
+                long currentUserId = userId;
+                Callable<Object> task = () -> transactionTemplate.execute(status -> {
+                    action.run(currentUserId);
+                    return null;
+                });
+                futures.add(executor.submit(task));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserAction {
+        void run(long userId);
+    }
+}
@@ -18,6 +18,8 @@ import com.boardservice.repository.BookmarkRepository;
 import com.boardservice.repository.PostLikeRepository;
 import com.boardservice.repository.PostRepository;
 import com.boardservice.repository.PostShareRepository;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,7 +37,9 @@ import org.springframework.data.domain.Pageable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -55,6 +60,9 @@ class PostInteractionServiceTest {
     @Mock
     private PostShareRepository postShareRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostInteractionService postInteractionService;
 
@@ -98,7 +106,8 @@ class PostInteractionServiceTest {
     void likePost_Success() {
         // given
         given(postLikeRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.addLikeCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
         given(postLikeRepository.save(any(PostLike.class))).willReturn(postLike);
 
         // when
@@ -109,8 +118,9 @@ class PostInteractionServiceTest {
         assertThat(response.getPostId()).isEqualTo(1L);
 
         verify(postLikeRepository).existsByPostIdAndUserId(1L, 1L);
-        verify(postRepository).findById(1L);
+        verify(postRepository).addLikeCount(1L, 1);
         verify(postLikeRepository).save(any(PostLike.class));
+        verify(eventPublisher).publishEvent(PostInteractionEvent.of(InteractionType.LIKE, 1L, 1L));
     }
 
     @Test
@@ -132,14 +142,14 @@ class PostInteractionServiceTest {
     void likePost_Fail_PostNotFound() {
         // given
         given(postLikeRepository.existsByPostIdAndUserId(999L, 1L)).willReturn(false);
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.addLikeCount(999L, 1)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> postInteractionService.likePost(1L, 999L))
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
 
-        verify(postRepository).findById(999L);
+        verify(postRepository).addLikeCount(999L, 1);
     }
 
     @Test
@@ -154,6 +164,7 @@ class PostInteractionServiceTest {
         // then
         verify(postLikeRepository).findByPostIdAndUserId(1L, 1L);
         verify(postLikeRepository).delete(postLike);
+        verify(postRepository).addLikeCount(1L, -1);
     }
 
     @Test
@@ -209,7 +220,8 @@ class PostInteractionServiceTest {
     void bookmarkPost_Success() {
         // given
         given(bookmarkRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.addBookmarkCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
         given(bookmarkRepository.save(any(Bookmark.class))).willReturn(bookmark);
 
         // when
@@ -220,7 +232,7 @@ class PostInteractionServiceTest {
         assertThat(response.getPostId()).isEqualTo(1L);
 
         verify(bookmarkRepository).existsByPostIdAndUserId(1L, 1L);
-        verify(postRepository).findById(1L);
+        verify(postRepository).addBookmarkCount(1L, 1);
         verify(bookmarkRepository).save(any(Bookmark.class));
     }
 
@@ -243,14 +255,14 @@ class PostInteractionServiceTest {
     void bookmarkPost_Fail_PostNotFound() {
         // given
         given(bookmarkRepository.existsByPostIdAndUserId(999L, 1L)).willReturn(false);
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.addBookmarkCount(999L, 1)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> postInteractionService.bookmarkPost(1L, 999L))
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
 
-        verify(postRepository).findById(999L);
+        verify(postRepository).addBookmarkCount(999L, 1);
     }
 
     @Test
@@ -265,6 +277,7 @@ class PostInteractionServiceTest {
         // then
         verify(bookmarkRepository).findByPostIdAndUserId(1L, 1L);
         verify(bookmarkRepository).delete(bookmark);
+        verify(postRepository).addBookmarkCount(1L, -1);
     }
 
     @Test
@@ -319,13 +332,14 @@ class PostInteractionServiceTest {
     @DisplayName("게시글 공유 성공")
     void sharePost_Success() {
         // given
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.addShareCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
 
         // when
         postInteractionService.sharePost(1L, 1L, ShareType.LINK);
 
         // then
-        verify(postRepository).findById(1L);
+        verify(postRepository).addShareCount(1L, 1);
         verify(postShareRepository).save(any());
     }
 
@@ -333,9 +347,8 @@ class PostInteractionServiceTest {
     @DisplayName("게시글 통계 조회 - 로그인 사용자")
     void getPostStats_Success_WithUser() {
         // given
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(true);
-        given(bookmarkRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
+        given(postRepository.findStatsById(1L, 1L))
+                .willReturn(Optional.of(new PostStatsResponse(1L, 10L, 3, 2, 1, 0, true, false)));
 
         // when
         PostStatsResponse response = postInteractionService.getPostStats(1L, 1L);
@@ -345,16 +358,16 @@ class PostInteractionServiceTest {
         assertThat(response.getIsLiked()).isTrue();
         assertThat(response.getIsBookmarked()).isFalse();
 
-        verify(postRepository).findById(1L);
-        verify(postLikeRepository).existsByPostIdAndUserId(1L, 1L);
-        verify(bookmarkRepository).existsByPostIdAndUserId(1L, 1L);
+        verify(postRepository).findStatsById(1L, 1L);
+        verify(postRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("게시글 통계 조회 - 비로그인 사용자")
     void getPostStats_Success_WithoutUser() {
         // given
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.findStatsById(1L, null))
+                .willReturn(Optional.of(new PostStatsResponse(1L, 10L, 3, 2, 1, 0, false, false)));
 
         // when
         PostStatsResponse response = postInteractionService.getPostStats(1L, null);
@@ -364,6 +377,17 @@ class PostInteractionServiceTest {
         assertThat(response.getIsLiked()).isFalse();
         assertThat(response.getIsBookmarked()).isFalse();
 
-        verify(postRepository).findById(1L);
+        verify(postRepository).findStatsById(1L, null);
+    }
+
+    @Test
+    @DisplayName("게시글 통계 조회 실패 - 존재하지 않는 게시글")
+    void getPostStats_Fail_NotFound() {
+        // given
+        given(postRepository.findStatsById(999L, 1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postInteractionService.getPostStats(999L, 1L))
+                .isInstanceOf(PostNotFoundException.class);
     }
 }
@@ -1,12 +1,25 @@
 package com.boardservice.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
-import com.boardservice.client.UserServiceClient;
+import com.boardservice.dto.CursorResponse;
+import com.boardservice.dto.board.BoardCategoryResponse;
 import com.boardservice.dto.post.CreatePostRequest;
+import com.boardservice.dto.post.PostCursor;
 import com.boardservice.dto.post.PostDetailResponse;
+import com.boardservice.dto.post.PostDetailVersion;
+import com.boardservice.dto.post.PostPageVersion;
 import com.boardservice.dto.post.PostResponse;
+import com.boardservice.dto.post.PostSearchResponse;
+import com.boardservice.dto.post.PostSummary;
+import com.boardservice.dto.post.PostVersion;
 import com.boardservice.dto.post.UpdatePostRequest;
 import com.boardservice.entity.BoardCategory;
 import com.boardservice.entity.Post;
@@ -15,15 +28,23 @@ import com.boardservice.repository.BoardCategoryRepository;
 import com.boardservice.repository.BookmarkRepository;
 import com.boardservice.repository.PostLikeRepository;
 import com.boardservice.repository.PostRepository;
-import com.common.dto.ApiResponse;
+import com.boardservice.service.category.BoardCategoryCatalog;
+import com.boardservice.service.ranking.LeaderboardMetric;
+import com.boardservice.service.ranking.PostLeaderboard;
+import com.boardservice.service.ranking.TrendingRanking;
+import com.boardservice.service.search.PostSearchService;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,7 +54,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -48,6 +73,12 @@ class PostServiceTest {
     @Mock
     private BoardCategoryRepository boardCategoryRepository;
 
+    @Mock
+    private BoardCategoryCatalog boardCategoryCatalog;
+
+    @Mock
+    private BoardPostCountBuffer boardPostCountBuffer;
+
     @Mock
     private PostLikeRepository postLikeRepository;
 
@@ -55,16 +86,28 @@ class PostServiceTest {
     private BookmarkRepository bookmarkRepository;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserInfoService userInfoService;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Spy
+    private PostContentCache postContentCache = new PostContentCache(Caffeine.newBuilder().build());
+
+    @Mock
+    private PostLeaderboard postLeaderboard;
+
+    @Mock
+    private TrendingRanking trendingRanking;
 
     @InjectMocks
     private PostService postService;
 
     private BoardCategory boardCategory;
     private Post post;
+    private PostSummary summary;
     private CreatePostRequest createRequest;
     private UpdatePostRequest updateRequest;
-    private UserServiceClient.UserResponse userResponse;
 
     @BeforeEach
     void setUp() {
@@ -84,6 +127,8 @@ class PostServiceTest {
                 .board(boardCategory)
                 .build();
 
+        summary = summary(1L, "테스트 제목", null);
+
         createRequest = CreatePostRequest.builder()
                 .boardId(1L)
                 .title("테스트 제목")
@@ -95,17 +140,16 @@ class PostServiceTest {
                 .content("수정된 내용")
                 .build();
 
-        userResponse = new UserServiceClient.UserResponse();
     }
 
     @Test
     @DisplayName("게시글 생성 성공")
     void createPost_Success() {
         // given
-        given(boardCategoryRepository.findById(1L)).willReturn(Optional.of(boardCategory));
+        given(boardCategoryCatalog.find(1L)).willReturn(Optional.of(BoardCategoryResponse.from(boardCategory)));
+        given(boardCategoryRepository.getReferenceById(1L)).willReturn(boardCategory);
         given(postRepository.save(any(Post.class))).willReturn(post);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         PostResponse response = postService.createPost(1L, createRequest);
@@ -114,17 +158,19 @@ class PostServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
         assertThat(response.getContent()).contains("테스트 내용");
+        assertThat(response.getBoardName()).isEqualTo("자유게시판");
 
-        verify(boardCategoryRepository).findById(1L);
+        verify(boardCategoryRepository, never()).findById(anyLong());
+        verify(boardPostCountBuffer).add(1L, 1);
         verify(postRepository).save(any(Post.class));
-        verify(userServiceClient).getUser(1L);
+        verify(userInfoService).getUsername(1L);
     }
 
     @Test
     @DisplayName("게시글 생성 실패 - 존재하지 않는 게시판")
     void createPost_Fail_BoardNotFound() {
         // given
-        given(boardCategoryRepository.findById(999L)).willReturn(Optional.empty());
+        given(boardCategoryCatalog.find(999L)).willReturn(Optional.empty());
 
         CreatePostRequest invalidRequest = CreatePostRequest.builder()
                 .boardId(999L)
@@ -137,27 +183,20 @@ class PostServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시판을 찾을 수 없습니다");
 
-        verify(boardCategoryRepository).findById(999L);
+        verify(postRepository, never()).save(any(Post.class));
     }
 
     @Test
     @DisplayName("전체 게시글 목록 조회")
     void getAllPosts_Success() {
         // given
-        Post post2 = Post.builder()
-                .id(2L)
-                .title("두번째 게시글")
-                .content("두번째 내용")
-                .userId(1L)
-                .board(boardCategory)
-                .build();
+        PostSummary summary2 = summary(2L, "두번째 게시글", null);
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post, post2), pageable, 2);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summary, summary2), pageable, 2);
 
-        given(postRepository.findAllByOrderByCreatedAtDesc(pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(postRepository.findSummaries(pageable)).willReturn(postPage);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
         Page<PostResponse> responses = postService.getAllPosts(pageable);
@@ -167,8 +206,14 @@ class PostServiceTest {
         assertThat(responses.getTotalElements()).isEqualTo(2);
         assertThat(responses.getContent()).hasSize(2);
         assertThat(responses.getContent().get(0).getTitle()).isEqualTo("테스트 제목");
-
-        verify(postRepository).findAllByOrderByCreatedAtDesc(pageable);
+        assertThat(responses.getContent().get(0).getContent()).isEqualTo("테스트 제목 요약");
+        assertThat(responses.getContent().get(0).getBoardName()).isEqualTo("자유게시판");
+        assertThat(responses.getContent()).extracting(PostResponse::getUsername)
+                .containsOnly("tester");
+
+        verify(postRepository).findSummaries(pageable);
+        verify(userInfoService).getUsernames(Set.of(1L));
+        verify(userInfoService, never()).getUsername(anyLong());
     }
 
     @Test
@@ -176,11 +221,10 @@ class PostServiceTest {
     void getPostsByBoard_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post), pageable, 1);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summary), pageable, 1);
 
-        given(postRepository.findByBoardIdOrderByCreatedAtDesc(1L, pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(postRepository.findSummariesByBoardId(1L, pageable)).willReturn(postPage);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
         Page<PostResponse> responses = postService.getPostsByBoard(1L, pageable);
@@ -190,7 +234,63 @@ class PostServiceTest {
         assertThat(responses.getTotalElements()).isEqualTo(1);
         assertThat(responses.getContent().get(0).getTitle()).isEqualTo("테스트 제목");
 
-        verify(postRepository).findByBoardIdOrderByCreatedAtDesc(1L, pageable);
+        verify(postRepository).findSummariesByBoardId(1L, pageable);
+    }
+
+    @Test
+    @DisplayName("전체 게시글 커서 조회 - 첫 페이지, 다음 커서 발급")
+    void getAllPostsByCursor_FirstPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123456000);
+        PostSummary latest = summary(1L, "테스트 제목", createdAt);
+        PostSummary older = summary(0L, "이전 게시글", createdAt.minusHours(1));
+
+        given(postRepository.findLatest(Limit.of(2))).willReturn(Arrays.asList(latest, older));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
+
+        // when
+        CursorResponse<PostResponse> response = postService.getAllPostsByCursor(null, 1);
+
+        // then
+        assertThat(response.getContent()).extracting(PostResponse::getId).containsExactly(1L);
+        assertThat(response.isHasNext()).isTrue();
+
+        PostCursor cursor = PostCursor.decode(response.getNextCursor());
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("게시판별 게시글 커서 조회 - 커서 이후 마지막 페이지")
+    void getPostsByBoardByCursor_LastPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        String cursor = PostCursor.from(summary(1L, "테스트 제목", createdAt)).encode();
+
+        PostSummary older = summary(0L, "이전 게시글", createdAt.minusHours(1));
+
+        given(postRepository.findLatestByBoardIdBefore(1L, createdAt, 1L, Limit.of(21)))
+                .willReturn(List.of(older));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
+
+        // when
+        CursorResponse<PostResponse> response = postService.getPostsByBoardByCursor(1L, cursor, 20);
+
+        // then
+        assertThat(response.getContent()).extracting(PostResponse::getId).containsExactly(0L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 실패 - 잘못된 커서")
+    void getPostsByUserByCursor_Fail_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByUserByCursor(1L, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+
+        verify(postRepository, never()).findLatestByUserIdBefore(anyLong(), any(), anyLong(), any());
     }
 
     @Test
@@ -198,11 +298,10 @@ class PostServiceTest {
     void getPostsByUser_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post), pageable, 1);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summary), pageable, 1);
 
-        given(postRepository.findByUserIdOrderByCreatedAtDesc(1L, pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(postRepository.findSummariesByUserId(1L, pageable)).willReturn(postPage);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
         Page<PostResponse> responses = postService.getPostsByUser(1L, pageable);
@@ -211,16 +310,16 @@ class PostServiceTest {
         assertThat(responses).isNotNull();
         assertThat(responses.getTotalElements()).isEqualTo(1);
 
-        verify(postRepository).findByUserIdOrderByCreatedAtDesc(1L, pageable);
+        verify(postRepository).findSummariesByUserId(1L, pageable);
     }
 
     @Test
     @DisplayName("게시글 상세 조회 성공 - 로그인 사용자")
     void getPost_Success_WithUser() {
         // given
+        given(postRepository.findVersionById(1L)).willReturn(Optional.of(version(null, 10L)));
         given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
         given(postLikeRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(true);
         given(bookmarkRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
 
@@ -230,46 +329,197 @@ class PostServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
+        assertThat(response.getUsername()).isEqualTo("tester");
         assertThat(response.getIsLiked()).isTrue();
         assertThat(response.getIsBookmarked()).isFalse();
 
         verify(postRepository).findByIdWithBoard(1L);
-        verify(postLikeRepository).existsByPostIdAndUserId(1L, 1L);
-        verify(bookmarkRepository).existsByPostIdAndUserId(1L, 1L);
     }
 
     @Test
-    @DisplayName("게시글 상세 조회 성공 - 비로그인 사용자")
+    @DisplayName("게시글 상세 조회 성공 - 비로그인 사용자 (좋아요/북마크 조회 없음)")
     void getPost_Success_WithoutUser() {
         // given
+        given(postRepository.findVersionById(1L)).willReturn(Optional.of(version(null, 10L)));
         given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
 
         // when
         PostDetailResponse response = postService.getPost(1L, null);
 
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.getTitle()).isEqualTo("테스트 제목");
         assertThat(response.getIsLiked()).isFalse();
         assertThat(response.getIsBookmarked()).isFalse();
+        assertThat(response.getViewCount()).isEqualTo(10L);
 
-        verify(postRepository).findByIdWithBoard(1L);
+        verify(postLikeRepository, never()).existsByPostIdAndUserId(anyLong(), anyLong());
+        verify(bookmarkRepository, never()).existsByPostIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("게시글 상세 조회 실패 - 존재하지 않는 게시글")
     void getPost_Fail_NotFound() {
         // given
-        given(postRepository.findByIdWithBoard(999L)).willReturn(Optional.empty());
+        given(postRepository.findVersionById(999L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> postService.getPost(999L, 1L))
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
 
-        verify(postRepository).findByIdWithBoard(999L);
+        verify(postRepository).findVersionById(999L);
+        verify(postRepository, never()).findByIdWithBoard(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 본문은 캐시에서, 카운터는 매번 최신 값으로 반환")
+    void getPost_ContentCached_CountersFresh() {
+        // given
+        given(postRepository.findVersionById(1L))
+                .willReturn(Optional.of(version(null, 10L)))
+                .willReturn(Optional.of(version(null, 11L)));
+        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
+
+        // when
+        PostDetailResponse first = postService.getPost(1L, null);
+        PostDetailResponse second = postService.getPost(1L, null);
+
+        // then
+        assertThat(first.getViewCount()).isEqualTo(10L);
+        assertThat(second.getViewCount()).isEqualTo(11L);
+        assertThat(second.getContent()).isEqualTo("테스트 내용");
+        verify(postRepository).findByIdWithBoard(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 캐시된 본문은 공유하고 좋아요/북마크 여부는 요청마다 계산")
+    void getPost_ContentCached_FlagsPerUser() {
+        // given
+        given(postRepository.findVersionById(1L)).willReturn(Optional.of(version(null, 10L)));
+        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
+        given(postLikeRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(true);
+        given(bookmarkRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
+        given(postLikeRepository.existsByPostIdAndUserId(1L, 2L)).willReturn(false);
+        given(bookmarkRepository.existsByPostIdAndUserId(1L, 2L)).willReturn(true);
+
+        // when
+        PostDetailResponse first = postService.getPost(1L, 1L);
+        PostDetailResponse second = postService.getPost(1L, 2L);
+
+        // then
+        assertThat(first.getIsLiked()).isTrue();
+        assertThat(first.getIsBookmarked()).isFalse();
+        assertThat(second.getIsLiked()).isFalse();
+        assertThat(second.getIsBookmarked()).isTrue();
+        assertThat(second.getContent()).isEqualTo(first.getContent());
+        verify(postRepository).findByIdWithBoard(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 수정 시각이 바뀌면 (다른 인스턴스의 수정 포함) 본문을 다시 로드")
+    void getPost_ReloadsWhenUpdatedAtChanges() {
+        // given
+        given(postRepository.findVersionById(1L))
+                .willReturn(Optional.of(version(null, 10L)))
+                .willReturn(Optional.of(version(LocalDateTime.of(2024, 1, 1, 12, 0), 10L)));
+        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
+
+        // when
+        postService.getPost(1L, null);
+        postService.getPost(1L, null);
+
+        // then
+        verify(postRepository, times(2)).findByIdWithBoard(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 버전 - 작성자명/본문 조회 없이 ETag 계산, 카운터와 사용자 상태에 따라 달라짐")
+    void getPostVersion_ETagChangesWithCountersAndUserState() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(postRepository.findVersionById(1L))
+                .willReturn(Optional.of(new PostVersion(1L, 1L, updatedAt, 10L, 3, 1, 0, 0)));
+        given(postLikeRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(true);
+        given(bookmarkRepository.existsByPostIdAndUserId(1L, 1L)).willReturn(false);
+
+        // when
+        String liked = postService.getPostVersion(1L, 1L).toETag();
+        String anonymous = postService.getPostVersion(1L, null).toETag();
+
+        // then
+        assertThat(liked).startsWith("\"").endsWith("\"");
+        assertThat(liked).isNotEqualTo(anonymous);
+        assertThat(anonymous).isEqualTo(new PostVersion(1L, 1L, updatedAt, 10L, 3, 1, 0, 0).toETag(false, false));
+        assertThat(new PostVersion(1L, 1L, updatedAt, 11L, 3, 1, 0, 0).toETag(false, false)).isNotEqualTo(anonymous);
+        verify(postRepository, never()).findByIdWithBoard(anyLong());
+        verify(userInfoService, never()).getUsernameAsync(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 버전 실패 - 존재하지 않는 게시글")
+    void getPostVersion_Fail_NotFound() {
+        // given
+        given(postRepository.findVersionById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPostVersion(999L, null))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("상세 응답 생성 - 작성자명 원격 조회를 본문 로드보다 먼저 시작 (버전의 작성자 ID 사용)")
+    void toDetailResponse_StartsUsernameLookupBeforeContentLoad() {
+        // given
+        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
+        given(userInfoService.getUsernameAsync(1L)).willReturn(CompletableFuture.completedFuture("tester"));
+
+        // when
+        PostDetailResponse response = postService.toDetailResponse(PostDetailVersion.anonymous(version(null, 10L)));
+
+        // then
+        assertThat(response.getUsername()).isEqualTo("tester");
+        InOrder inOrder = inOrder(userInfoService, postRepository);
+        inOrder.verify(userInfoService).getUsernameAsync(1L);
+        inOrder.verify(postRepository).findByIdWithBoard(1L);
+    }
+
+    @Test
+    @DisplayName("상세 응답 생성 - ETag에 쓴 버전의 카운터를 그대로 사용 (버전 재조회 없음)")
+    void toDetailResponse_UsesGivenVersion() {
+        // given
+        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
+        given(userInfoService.getUsernameAsync(anyLong())).willReturn(CompletableFuture.completedFuture("tester"));
+
+        // when
+        PostDetailResponse response = postService.toDetailResponse(PostDetailVersion.anonymous(version(null, 42L)));
+
+        // then
+        assertThat(response.getViewCount()).isEqualTo(42L);
+        verify(postRepository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("목록 페이지 검증자 - 최신 수정 시각과 카운터/전체 건수 반영")
+    void postPageVersion_ReflectsNewestRowAndCounters() {
+        // given
+        LocalDateTime older = LocalDateTime.of(2024, 1, 1, 12, 0);
+        LocalDateTime newer = older.plusHours(1);
+        Pageable pageable = PageRequest.of(0, 2);
+        Page<PostSummary> page = new PageImpl<>(List.of(summary(2L, "b", newer), summary(1L, "a", older)), pageable, 5);
+        Page<PostSummary> afterDelete = new PageImpl<>(page.getContent(), pageable, 4);
+
+        // when
+        PostPageVersion version = PostPageVersion.of(page);
+
+        // then
+        assertThat(version.getLastModified())
+                .isEqualTo(newer.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(version.getETag()).isEqualTo(PostPageVersion.of(page).getETag());
+        assertThat(version.getETag()).isNotEqualTo(PostPageVersion.of(afterDelete).getETag());
+        assertThat(PostPageVersion.of(Page.empty(pageable)).getLastModified()).isEqualTo(-1);
     }
 
     @Test
@@ -277,8 +527,7 @@ class PostServiceTest {
     void updatePost_Success() {
         // given
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(userInfoService.getUsername(anyLong())).willReturn("tester");
 
         // when
         PostResponse response = postService.updatePost(1L, 1L, updateRequest);
@@ -289,6 +538,7 @@ class PostServiceTest {
         assertThat(response.getContent()).contains("수정된 내용");
 
         verify(postRepository).findById(1L);
+        verify(postContentCache).invalidate(1L);
     }
 
     @Test
@@ -331,6 +581,8 @@ class PostServiceTest {
         // then
         verify(postRepository).findByIdWithBoard(1L);
         verify(postRepository).delete(post);
+        verify(postContentCache).invalidate(1L);
+        verify(boardPostCountBuffer).add(1L, -1);
     }
 
     @Test
@@ -366,20 +618,20 @@ class PostServiceTest {
     void getPopularPostsByLikes_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post), pageable, 1);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summary), pageable, 1);
 
-        given(postRepository.findAllByOrderByLikeCountDescCreatedAtDesc(pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(postLeaderboard.findPostIds(LeaderboardMetric.LIKES, null, pageable)).willReturn(Optional.empty());
+        given(postRepository.findPopularSummariesByLikes(pageable)).willReturn(postPage);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
-        Page<PostResponse> responses = postService.getPopularPostsByLikes(pageable);
+        Page<PostResponse> responses = postService.getPopularPostsByLikes(null, pageable);
 
         // then
         assertThat(responses).isNotNull();
         assertThat(responses.getTotalElements()).isEqualTo(1);
 
-        verify(postRepository).findAllByOrderByLikeCountDescCreatedAtDesc(pageable);
+        verify(postRepository).findPopularSummariesByLikes(pageable);
     }
 
     @Test
@@ -387,59 +639,91 @@ class PostServiceTest {
     void getPopularPostsByViews_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post), pageable, 1);
+        Page<PostSummary> postPage = new PageImpl<>(Arrays.asList(summary), pageable, 1);
 
-        given(postRepository.findAllByOrderByViewCountDescCreatedAtDesc(pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        given(postLeaderboard.findPostIds(LeaderboardMetric.VIEWS, null, pageable)).willReturn(Optional.empty());
+        given(postRepository.findPopularSummariesByViews(pageable)).willReturn(postPage);
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
-        Page<PostResponse> responses = postService.getPopularPostsByViews(pageable);
+        Page<PostResponse> responses = postService.getPopularPostsByViews(null, pageable);
 
         // then
         assertThat(responses).isNotNull();
         assertThat(responses.getTotalElements()).isEqualTo(1);
 
-        verify(postRepository).findAllByOrderByViewCountDescCreatedAtDesc(pageable);
+        verify(postRepository).findPopularSummariesByViews(pageable);
     }
 
     @Test
-    @DisplayName("게시글 검색")
-    void searchPosts_Success() {
+    @DisplayName("인기 게시글 조회 - 리더보드 순서대로 게시판별 요약 반환")
+    void getPopularPostsByLikes_FromLeaderboard() {
         // given
-        String keyword = "테스트";
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> postPage = new PageImpl<>(Arrays.asList(post), pageable, 1);
-
-        given(postRepository.searchByKeyword(keyword, pageable)).willReturn(postPage);
-        ApiResponse<UserServiceClient.UserResponse> mockApiResponse = ApiResponse.success(userResponse);
-        given(userServiceClient.getUser(anyLong())).willReturn(mockApiResponse);
+        Pageable pageable = PageRequest.of(0, 2);
+        PostSummary second = summary(2L, "두 번째", null);
+        given(postLeaderboard.findPostIds(LeaderboardMetric.LIKES, 1L, pageable))
+                .willReturn(Optional.of(new PageImpl<>(List.of(2L, 1L), pageable, 5)));
+        given(postRepository.findSummariesByIdIn(List.of(2L, 1L))).willReturn(List.of(summary, second));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
         // when
-        Page<PostResponse> responses = postService.searchPosts(keyword, pageable);
+        Page<PostResponse> responses = postService.getPopularPostsByLikes(1L, pageable);
 
         // then
-        assertThat(responses).isNotNull();
-        assertThat(responses.getTotalElements()).isEqualTo(1);
-        assertThat(responses.getContent().get(0).getTitle()).contains("테스트");
+        assertThat(responses.getContent()).extracting(PostResponse::getId).containsExactly(2L, 1L);
+        assertThat(responses.getTotalElements()).isEqualTo(5);
+        verify(postRepository, never()).findPopularSummariesByBoardIdByLikes(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("트렌딩 게시글 조회 - 메모리 상위 K건에서 페이지를 잘라 순서대로 반환")
+    void getTrendingPosts_Success() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        PostSummary third = summary(3L, "세 번째", null);
+        given(trendingRanking.findTopPostIds(null)).willReturn(List.of(5L, 4L, 3L, 1L, 2L));
+        given(postRepository.findSummariesByIdIn(List.of(3L, 1L))).willReturn(List.of(summary, third));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "tester"));
 
-        verify(postRepository).searchByKeyword(keyword, pageable);
+        // when
+        Page<PostResponse> responses = postService.getTrendingPosts(null, pageable);
+
+        // then
+        assertThat(responses.getContent()).extracting(PostResponse::getId).containsExactly(3L, 1L);
+        assertThat(responses.getTotalElements()).isEqualTo(5);
     }
 
     @Test
-    @DisplayName("UserService 호출 실패 시 Unknown 반환")
-    void getUsername_Fail_ReturnsUnknown() {
+    @DisplayName("게시글 검색 - 검색 서비스에 위임")
+    void searchPosts_Success() {
         // given
-        given(postRepository.findByIdWithBoard(1L)).willReturn(Optional.of(post));
-        given(userServiceClient.getUser(anyLong())).willThrow(new RuntimeException("UserService unavailable"));
+        String keyword = "테스트";
+        Pageable pageable = PageRequest.of(0, 20);
+        PostSearchResponse hit = PostSearchResponse.builder()
+                .post(PostResponse.from(post, "tester"))
+                .score(1.5)
+                .titleHighlight("<em>테스트</em> 제목")
+                .build();
+
+        given(postSearchService.search(keyword, pageable))
+                .willReturn(new PageImpl<>(List.of(hit), pageable, 1));
 
         // when
-        PostDetailResponse response = postService.getPost(1L, null);
+        Page<PostSearchResponse> responses = postService.searchPosts(keyword, pageable);
 
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.getUsername()).isEqualTo("Unknown");
+        assertThat(responses.getTotalElements()).isEqualTo(1);
+        assertThat(responses.getContent().get(0).getPost().getTitle()).contains("테스트");
+
+        verify(postSearchService).search(keyword, pageable);
+    }
+
+    private PostVersion version(LocalDateTime updatedAt, Long viewCount) {
+        return new PostVersion(1L, 1L, updatedAt, viewCount, 0, 0, 0, 0);
+    }
 
-        verify(userServiceClient).getUser(1L);
+    private PostSummary summary(Long id, String title, LocalDateTime createdAt) {
+        return new PostSummary(id, title, title + " 요약", 1L, 1L, "자유게시판",
+                0L, 0, 0, 0, 0, createdAt, createdAt);
     }
 }
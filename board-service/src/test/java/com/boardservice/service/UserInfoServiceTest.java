@@ -0,0 +1,240 @@
+package com.boardservice.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import com.boardservice.client.UserServiceClient;
+import com.common.dto.ApiResponse;
+import com.common.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserInfoService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserInfoServiceTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private Cache<Long, UserServiceClient.UserResponse> userCache;
+
+    private UserInfoService userInfoService;
+
+    @BeforeEach
+    void setUp() {
+        userCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .recordStats()
+                .build();
+        userInfoService = new UserInfoService(userServiceClient, userCache, Executors.newSingleThreadExecutor());
+    }
+
+    private UserServiceClient.UserResponse user(Long id, String username) {
+        return UserServiceClient.UserResponse.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .build();
+    }
+
+    @Test
+    @DisplayName("username 조회 - 두 번째 조회는 캐시 적중")
+    void getUsername_CacheHit() {
+        // given
+        given(userServiceClient.getUser(1L)).willReturn(ApiResponse.success(user(1L, "tester")));
+
+        // when
+        String first = userInfoService.getUsername(1L);
+        String second = userInfoService.getUsername(1L);
+
+        // then
+        assertThat(first).isEqualTo("tester");
+        assertThat(second).isEqualTo("tester");
+        assertThat(userCache.stats().hitCount()).isEqualTo(1);
+
+        verify(userServiceClient, times(1)).getUser(1L);
+    }
+
+    @Test
+    @DisplayName("UserService 호출 실패 시 Unknown 반환")
+    void getUsername_Fail_ReturnsUnknown() {
+        // given
+        given(userServiceClient.getUser(anyLong())).willThrow(new RuntimeException("UserService unavailable"));
+
+        // when
+        String username = userInfoService.getUsername(1L);
+
+        // then
+        assertThat(username).isEqualTo(UserInfoService.UNKNOWN_USERNAME);
+        assertThat(userCache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Circuit Breaker fallback 응답은 캐시하지 않음")
+    void getUsername_FallbackNotCached() {
+        // given
+        given(userServiceClient.getUser(1L))
+                .willReturn(ApiResponse.success(user(null, UserInfoService.UNKNOWN_USERNAME)));
+
+        // when
+        String username = userInfoService.getUsername(1L);
+        userInfoService.getUsername(1L);
+
+        // then
+        assertThat(username).isEqualTo(UserInfoService.UNKNOWN_USERNAME);
+        verify(userServiceClient, times(2)).getUser(1L);
+    }
+
+    @Test
+    @DisplayName("fallback 문구와 같은 이름의 실제 사용자도 캐시")
+    void getUsername_RealUserNamedUnknownCached() {
+        // given
+        given(userServiceClient.getUser(1L))
+                .willReturn(ApiResponse.success(user(1L, UserInfoService.UNKNOWN_USERNAME)));
+
+        // when
+        userInfoService.getUsername(1L);
+        userInfoService.getUsername(1L);
+
+        // then
+        verify(userServiceClient, times(1)).getUser(1L);
+    }
+
+    @Test
+    @DisplayName("username 일괄 조회 - 캐시 미스만 User Service에 요청")
+    void getUsernames_OnlyMissesFetched() {
+        // given
+        userCache.put(1L, user(1L, "cached"));
+        given(userServiceClient.getUsers(any(UserServiceClient.UserBatchRequest.class)))
+                .willReturn(ApiResponse.success(List.of(user(2L, "fetched"))));
+
+        // when
+        Map<Long, String> usernames = userInfoService.getUsernames(Set.of(1L, 2L, 3L));
+
+        // then
+        assertThat(usernames).containsEntry(1L, "cached")
+                .containsEntry(2L, "fetched")
+                .containsEntry(3L, UserInfoService.UNKNOWN_USERNAME);
+        assertThat(userCache.getIfPresent(2L)).isNotNull();
+
+        verify(userServiceClient).getUsers(argThat(
+                request -> request.getIds().equals(Set.of(2L, 3L))));
+    }
+
+    @Test
+    @DisplayName("username 일괄 조회 - 캐시 미스가 한도를 넘으면 한도 단위로 나누어 요청")
+    void getUsernames_SplitsIntoBatches() {
+        // given
+        Set<Long> userIds = LongStream.rangeClosed(1, UserDto.MAX_BATCH_IDS * 2L + 1)
+                .boxed()
+                .collect(Collectors.toSet());
+        given(userServiceClient.getUsers(any(UserServiceClient.UserBatchRequest.class)))
+                .willAnswer(invocation -> {
+                    UserServiceClient.UserBatchRequest request = invocation.getArgument(0);
+                    return ApiResponse.success(request.getIds().stream()
+                            .map(id -> user(id, "user" + id))
+                            .collect(Collectors.toList()));
+                });
+
+        // when
+        Map<Long, String> usernames = userInfoService.getUsernames(userIds);
+
+        // then
+        assertThat(usernames).hasSize(userIds.size()).containsEntry(1L, "user1");
+        verify(userServiceClient, times(3)).getUsers(argThat(
+                request -> request.getIds().size() <= UserDto.MAX_BATCH_IDS));
+    }
+
+    @Test
+    @DisplayName("username 일괄 조회 실패 시 Unknown 반환")
+    void getUsernames_Fail_ReturnsUnknown() {
+        // given
+        given(userServiceClient.getUsers(any(UserServiceClient.UserBatchRequest.class)))
+                .willThrow(new RuntimeException("UserService unavailable"));
+
+        // when
+        Map<Long, String> usernames = userInfoService.getUsernames(Set.of(1L));
+
+        // then
+        assertThat(usernames).containsEntry(1L, UserInfoService.UNKNOWN_USERNAME);
+    }
+
+    @Test
+    @DisplayName("username 비동기 조회 - 캐시 적중 시 원격 호출 없이 완료된 future 반환")
+    void getUsernameAsync_CacheHit() {
+        // given
+        userCache.put(1L, user(1L, "tester"));
+
+        // when
+        CompletableFuture<String> username = userInfoService.getUsernameAsync(1L);
+
+        // then
+        assertThat(username).isCompletedWithValue("tester");
+        verify(userServiceClient, never()).getUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("username 비동기 조회 - 시간 초과 시 Unknown으로 완료")
+    void getUsernameAsync_Timeout_ReturnsUnknown() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(userInfoService, "lookupTimeout", Duration.ofMillis(50));
+        given(userServiceClient.getUser(1L)).willAnswer(invocation -> {
+            release.await();
+            return ApiResponse.success(user(1L, "tester"));
+        });
+
+        try {
+            // when
+            String username = userInfoService.getUsernameAsync(1L).join();
+
+            // then
+            assertThat(username).isEqualTo(UserInfoService.UNKNOWN_USERNAME);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("username 비동기 조회 - Executor가 작업을 거절하면 요청 스레드에서 호출하지 않고 Unknown으로 완료")
+    void getUsernameAsync_Rejected_ReturnsUnknown() {
+        // given
+        userInfoService = new UserInfoService(userServiceClient, userCache, command -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // when
+        CompletableFuture<String> username = userInfoService.getUsernameAsync(1L);
+
+        // then
+        assertThat(username).isCompletedWithValue(UserInfoService.UNKNOWN_USERNAME);
+        verify(userServiceClient, never()).getUser(anyLong());
+    }
+}
@@ -0,0 +1,142 @@
+package com.boardservice.service;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.boardservice.repository.PostRepository;
+import com.boardservice.service.ranking.InteractionType;
+import com.boardservice.service.ranking.PostInteractionEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ViewCountBuffer 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new ViewCountBuffer(postRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("flush - 게시글별 누적 조회수를 한 번에 반영")
+    void flush_Success() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+        verify(eventPublisher).publishEvent(new PostInteractionEvent(InteractionType.VIEW, Map.of(1L, 2L, 2L, 1L)));
+        assertThat(viewCountBuffer.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 누적된 조회수가 없으면 DB 호출 없음")
+    void flush_Empty() {
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verify(postRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 증가량을 버퍼에 되돌림")
+    void flush_Fail_RestoresDeltas() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        doThrow(new RuntimeException("DB unavailable")).when(postRepository).addViewCounts(anyMap());
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.getPendingCount(1L)).isEqualTo(2L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("동시 조회수 증가 - 누락 없이 누적")
+    void increment_Concurrent() throws InterruptedException {
+        // given
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    viewCountBuffer.increment(1L);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(viewCountBuffer.getPendingCount(1L)).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("유휴 항목 제거 후에도 새 조회수는 누적")
+    void increment_AfterIdleEntryRemoved() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+
+        // when
+        viewCountBuffer.increment(1L);
+
+        // then
+        assertThat(viewCountBuffer.getPendingCount(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 조회수 반영")
+    void flushOnShutdown_Success() {
+        // given
+        viewCountBuffer.increment(1L);
+
+        // when
+        viewCountBuffer.flushOnShutdown();
+
+        // then
+        verify(postRepository).addViewCounts(Map.of(1L, 1L));
+    }
+}
@@ -1,16 +1,10 @@
 package com.boardservice.service;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
-import com.boardservice.entity.BoardCategory;
-import com.boardservice.entity.Post;
-import com.boardservice.entity.ViewHistory;
-import com.boardservice.exception.PostNotFoundException;
-import com.boardservice.repository.PostRepository;
 import com.boardservice.repository.ViewHistoryRepository;
+import com.boardservice.service.view.ViewDeduplicator;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,59 +25,33 @@ import static org.mockito.Mockito.verify;
 class ViewCountServiceTest {
 
     @Mock
-    private PostRepository postRepository;
+    private ViewHistoryRepository viewHistoryRepository;
 
     @Mock
-    private ViewHistoryRepository viewHistoryRepository;
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private ViewDeduplicator viewDeduplicator;
+
+    @Mock
+    private ViewHistoryPurgeService viewHistoryPurgeService;
 
     @InjectMocks
     private ViewCountService viewCountService;
 
-    private Post post;
-
-    @BeforeEach
-    void setUp() {
-        BoardCategory boardCategory = BoardCategory.builder()
-                .id(1L)
-                .name("자유게시판")
-                .description("자유롭게 소통하는 공간")
-                .isActive(true)
-                .postCount(0)
-                .build();
-
-        post = Post.builder()
-                .id(1L)
-                .title("테스트 게시글")
-                .content("테스트 내용")
-                .userId(1L)
-                .board(boardCategory)
-                .build();
-    }
-
     @Test
     @DisplayName("조회수 증가 성공 - 첫 조회")
     void incrementViewCount_Success_FirstView() {
         // given
         LocalDate today = LocalDate.now();
-        given(viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(1L, 1L, today))
-                .willReturn(false);
-        given(viewHistoryRepository.save(any(ViewHistory.class)))
-                .willReturn(ViewHistory.builder()
-                        .postId(1L)
-                        .userId(1L)
-                        .viewDate(today)
-                        .build());
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
-
-        long initialViewCount = post.getViewCount();
+        given(viewDeduplicator.markFirstView(1L, 1L, today)).willReturn(true);
 
         // when
         viewCountService.incrementViewCount(1L, 1L);
 
         // then
-        verify(viewHistoryRepository).existsByPostIdAndUserIdAndViewDate(1L, 1L, today);
-        verify(viewHistoryRepository).save(any(ViewHistory.class));
-        verify(postRepository).findById(1L);
+        verify(viewDeduplicator).markFirstView(1L, 1L, today);
+        verify(viewCountBuffer).increment(1L);
     }
 
     @Test
@@ -91,16 +59,14 @@ class ViewCountServiceTest {
     void incrementViewCount_Ignore_AlreadyViewedToday() {
         // given
         LocalDate today = LocalDate.now();
-        given(viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(1L, 1L, today))
-                .willReturn(true);
+        given(viewDeduplicator.markFirstView(1L, 1L, today)).willReturn(false);
 
         // when
         viewCountService.incrementViewCount(1L, 1L);
 
         // then
-        verify(viewHistoryRepository).existsByPostIdAndUserIdAndViewDate(1L, 1L, today);
-        verify(viewHistoryRepository, never()).save(any(ViewHistory.class));
-        verify(postRepository, never()).findById(any());
+        verify(viewDeduplicator).markFirstView(1L, 1L, today);
+        verify(viewCountBuffer, never()).increment(any());
     }
 
     @Test
@@ -108,23 +74,14 @@ class ViewCountServiceTest {
     void incrementViewCount_Success_GuestUser() {
         // given
         LocalDate today = LocalDate.now();
-        given(viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(1L, 0L, today))
-                .willReturn(false);
-        given(viewHistoryRepository.save(any(ViewHistory.class)))
-                .willReturn(ViewHistory.builder()
-                        .postId(1L)
-                        .userId(0L)
-                        .viewDate(today)
-                        .build());
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(viewDeduplicator.markFirstView(1L, 0L, today)).willReturn(true);
 
         // when
         viewCountService.incrementViewCount(1L, null);
 
         // then
-        verify(viewHistoryRepository).existsByPostIdAndUserIdAndViewDate(1L, 0L, today);
-        verify(viewHistoryRepository).save(any(ViewHistory.class));
-        verify(postRepository).findById(1L);
+        verify(viewDeduplicator).markFirstView(1L, 0L, today);
+        verify(viewCountBuffer).increment(1L);
     }
 
     @Test
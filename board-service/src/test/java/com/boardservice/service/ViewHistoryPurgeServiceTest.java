@@ -0,0 +1,130 @@
+package com.boardservice.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.boardservice.repository.ViewHistoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ViewHistoryPurgeService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewHistoryPurgeServiceTest {
+
+    @Mock
+    private ViewHistoryRepository viewHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ViewHistoryPurgeService viewHistoryPurgeService;
+
+    private final LocalDate cutoffDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewHistoryPurgeService = new ViewHistoryPurgeService(
+                viewHistoryRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(viewHistoryPurgeService, "batchSize", 100);
+        ReflectionTestUtils.setField(viewHistoryPurgeService, "pause", Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("chunked 모드 - ID 범위별로 나누어 삭제하고 메트릭 기록")
+    void purgeOlderThan_Chunked() {
+        // given
+        given(viewHistoryRepository.findMinId()).willReturn(1L);
+        given(viewHistoryRepository.findMaxIdBefore(cutoffDate)).willReturn(250L);
+        given(viewHistoryRepository.deleteOldRecordsInRange(1L, 101L, cutoffDate)).willReturn(100);
+        given(viewHistoryRepository.deleteOldRecordsInRange(101L, 201L, cutoffDate)).willReturn(100);
+        given(viewHistoryRepository.deleteOldRecordsInRange(201L, 251L, cutoffDate)).willReturn(50);
+
+        // when
+        long deleted = viewHistoryPurgeService.purgeOlderThan(cutoffDate);
+
+        // then
+        assertThat(deleted).isEqualTo(250L);
+        assertThat(meterRegistry.get("view_history.purge.rows").counter().count()).isEqualTo(250.0);
+        assertThat(meterRegistry.get("view_history.purge.chunk.rows").summary().count()).isEqualTo(3L);
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("chunked 모드 - 삭제 대상이 없으면 아무것도 하지 않음")
+    void purgeOlderThan_Chunked_Empty() {
+        // given
+        given(viewHistoryRepository.findMinId()).willReturn(1L);
+        given(viewHistoryRepository.findMaxIdBefore(cutoffDate)).willReturn(null);
+
+        // when
+        long deleted = viewHistoryPurgeService.purgeOlderThan(cutoffDate);
+
+        // then
+        assertThat(deleted).isZero();
+        verify(viewHistoryRepository, never()).deleteOldRecordsInRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("partition 모드 - 기준일 이전 파티션 DROP")
+    void purgeOlderThan_Partition() {
+        // given
+        ReflectionTestUtils.setField(viewHistoryPurgeService, "mode", "partition");
+        given(viewHistoryRepository.findDailyPartitionsBefore(cutoffDate))
+                .willReturn(List.of("p20231230", "p20231231"));
+
+        // when
+        long dropped = viewHistoryPurgeService.purgeOlderThan(cutoffDate);
+
+        // then
+        assertThat(dropped).isEqualTo(2L);
+        verify(viewHistoryRepository).dropPartition("p20231230");
+        verify(viewHistoryRepository).dropPartition("p20231231");
+        verify(viewHistoryRepository, never()).deleteOldRecordsInRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("chunked 모드에서는 파티션을 생성하지 않음")
+    void prepareDailyPartitions_ChunkedMode() {
+        // when
+        viewHistoryPurgeService.prepareDailyPartitions();
+
+        // then
+        verify(viewHistoryRepository, never()).addDailyPartition(any());
+    }
+
+    @Test
+    @DisplayName("partition 모드 - 오늘부터 설정된 일수만큼 파티션 생성")
+    void prepareDailyPartitions_PartitionMode() {
+        // given
+        ReflectionTestUtils.setField(viewHistoryPurgeService, "mode", "partition");
+        ReflectionTestUtils.setField(viewHistoryPurgeService, "partitionDaysAhead", 2);
+
+        // when
+        viewHistoryPurgeService.prepareDailyPartitions();
+
+        // then
+        verify(viewHistoryRepository, times(3)).addDailyPartition(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.boardservice.service.category;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.boardservice.dto.board.BoardCategoryResponse;
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.repository.BoardCategoryRepository;
+import com.boardservice.service.BoardPostCountBuffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoardCategoryCatalog 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardCategoryCatalogTest {
+
+    @Mock
+    private BoardCategoryRepository boardCategoryRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private BoardPostCountBuffer boardPostCountBuffer;
+
+    @InjectMocks
+    private BoardCategoryCatalog catalog;
+
+    private BoardCategory notice;
+    private BoardCategory free;
+    private BoardCategory closed;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        notice = category(2L, "공지사항", true, now);
+        free = category(1L, "자유게시판", true, now.plusDays(1));
+        closed = category(3L, "종료", false, now.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 스냅샷에서 조회 (전체는 ID 순, 활성은 생성 순)")
+    void getAll_ServedFromSnapshot() {
+        // given
+        given(boardCategoryRepository.findAll()).willReturn(List.of(notice, free, closed));
+
+        // when
+        List<BoardCategoryResponse> all = catalog.getAll();
+        List<BoardCategoryResponse> active = catalog.getActive();
+        Optional<BoardCategoryResponse> found = catalog.find(3L);
+
+        // then
+        assertThat(all).extracting(BoardCategoryResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(active).extracting(BoardCategoryResponse::getName).containsExactly("공지사항", "자유게시판");
+        assertThat(found).map(BoardCategoryResponse::getName).hasValue("종료");
+        verify(boardCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("변경 커밋 후 새 스냅샷으로 교체하고 다른 인스턴스에 알림")
+    void onChanged_SwapsSnapshotAndPublishes() {
+        // given
+        given(boardCategoryRepository.findAll())
+                .willReturn(List.of(free))
+                .willReturn(List.of(free, notice));
+        catalog.reload();
+
+        // when
+        catalog.onChanged(new BoardCategoryChangedEvent(2L));
+
+        // then
+        assertThat(catalog.getAll()).extracting(BoardCategoryResponse::getId).containsExactly(1L, 2L);
+        verify(redisTemplate).convertAndSend(eq(BoardCategoryCatalog.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 게시판은 DB에서 조회")
+    void find_FallsBackToDatabase() {
+        // given
+        given(boardCategoryRepository.findAll()).willReturn(List.of(free));
+        given(boardCategoryRepository.findById(2L)).willReturn(Optional.of(notice));
+
+        // when
+        Optional<BoardCategoryResponse> found = catalog.find(2L);
+
+        // then
+        assertThat(found).map(BoardCategoryResponse::getName).hasValue("공지사항");
+    }
+
+    @Test
+    @DisplayName("게시글 수는 스냅샷 값에 미반영 증감량을 더해 반환")
+    void find_AddsPendingPostCount() {
+        // given
+        given(boardCategoryRepository.findAll()).willReturn(List.of(free, notice));
+        given(boardPostCountBuffer.getPendingCount(1L)).willReturn(3L);
+        given(boardPostCountBuffer.getPendingCount(2L)).willReturn(-1L);
+
+        // when
+        Optional<BoardCategoryResponse> found = catalog.find(1L);
+        List<BoardCategoryResponse> all = catalog.getAll();
+
+        // then
+        assertThat(found).map(BoardCategoryResponse::getPostCount).hasValue(3);
+        assertThat(all).extracting(BoardCategoryResponse::getPostCount).containsExactly(3, 0);
+    }
+
+    private BoardCategory category(Long id, String name, boolean active, LocalDateTime createdAt) {
+        BoardCategory category = BoardCategory.builder()
+                .id(id)
+                .name(name)
+                .isActive(active)
+                .postCount(0)
+                .build();
+        ReflectionTestUtils.setField(category, "createdAt", createdAt);
+        return category;
+    }
+}
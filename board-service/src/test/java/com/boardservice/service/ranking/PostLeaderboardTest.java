@@ -0,0 +1,168 @@
+package com.boardservice.service.ranking;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.boardservice.repository.PostRepository;
+import com.boardservice.repository.PostScore;
+import com.boardservice.service.category.BoardCategoryCatalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PostLeaderboard 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostLeaderboardTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardCategoryCatalog boardCategoryCatalog;
+
+    @InjectMocks
+    private PostLeaderboard leaderboard;
+
+    @Test
+    @DisplayName("좋아요 이벤트 - 현재 카운터로 전체/게시판 리더보드 갱신 후 상위 N건 유지")
+    void onInteraction_Like() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(postRepository.findLikeScoresByIdIn(anyCollection()))
+                .willReturn(List.of(new PostScore(7L, 3L, 12L)));
+
+        // when
+        leaderboard.onInteraction(PostInteractionEvent.of(InteractionType.LIKE, 7L, 1L));
+
+        // then
+        verify(zSetOperations).add("leaderboard:likes:all", Set.of(tuple(7L, 12.0)));
+        verify(zSetOperations).add("leaderboard:likes:board:3", Set.of(tuple(7L, 12.0)));
+        verify(zSetOperations).removeRange("leaderboard:likes:all", 0, -1001);
+        verify(zSetOperations).removeRange("leaderboard:likes:board:3", 0, -1001);
+    }
+
+    @Test
+    @DisplayName("여러 게시글 갱신 - 게시글마다가 아니라 키마다 한 번씩 ZADD")
+    void refresh_OneZaddPerKey() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(postRepository.findViewScoresByIdIn(anyCollection())).willReturn(List.of(
+                new PostScore(7L, 3L, 12L), new PostScore(8L, 3L, 5L), new PostScore(9L, 4L, 1L)));
+
+        // when
+        leaderboard.refresh(LeaderboardMetric.VIEWS, List.of(7L, 8L, 9L));
+
+        // then
+        verify(zSetOperations).add("leaderboard:views:all", Set.of(tuple(7L, 12.0), tuple(8L, 5.0), tuple(9L, 1.0)));
+        verify(zSetOperations).add("leaderboard:views:board:3", Set.of(tuple(7L, 12.0), tuple(8L, 5.0)));
+        verify(zSetOperations).add("leaderboard:views:board:4", Set.of(tuple(9L, 1.0)));
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("재구성 - 인스턴스 간 충돌이 없도록 매번 고유한 임시 키에 채운 뒤 RENAME")
+    void rebuild_UsesUniqueTempKey() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(boardCategoryCatalog.getAll()).willReturn(List.of());
+        given(postRepository.findTopLikeScores(isNull(), any(Limit.class)))
+                .willReturn(List.of(new PostScore(7L, 3L, 12L)));
+        given(postRepository.findTopViewScores(isNull(), any(Limit.class))).willReturn(List.of());
+
+        // when
+        leaderboard.rebuild();
+        leaderboard.rebuild();
+
+        // then
+        ArgumentCaptor<String> tmpKeys = ArgumentCaptor.forClass(String.class);
+        verify(zSetOperations, times(2)).add(tmpKeys.capture(), eq(Set.of(tuple(7L, 12.0))));
+        assertThat(tmpKeys.getAllValues()).allMatch(key -> key.startsWith("leaderboard:likes:all:rebuild:"));
+        assertThat(tmpKeys.getAllValues().get(0)).isNotEqualTo(tmpKeys.getAllValues().get(1));
+        verify(redisTemplate).rename(tmpKeys.getAllValues().get(0), "leaderboard:likes:all");
+        verify(redisTemplate).rename(tmpKeys.getAllValues().get(1), "leaderboard:likes:all");
+        verify(redisTemplate, times(2)).delete("leaderboard:views:all");
+    }
+
+    @Test
+    @DisplayName("리더보드 대상이 아닌 이벤트는 무시")
+    void onInteraction_IgnoresOtherTypes() {
+        // when
+        leaderboard.onInteraction(PostInteractionEvent.of(InteractionType.BOOKMARK, 7L, 1L));
+
+        // then
+        verify(postRepository, never()).findLikeScoresByIdIn(anyCollection());
+        verify(postRepository, never()).findViewScoresByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("리더보드 순서대로 게시글 ID 페이지 반환")
+    void findPostIds_Success() {
+        // given
+        Set<String> members = new LinkedHashSet<>(List.of("0000000000000000009", "0000000000000000004"));
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.zCard("leaderboard:views:board:1")).willReturn(5L);
+        given(zSetOperations.reverseRange("leaderboard:views:board:1", 2, 3)).willReturn(members);
+
+        // when
+        Optional<Page<Long>> page = leaderboard.findPostIds(LeaderboardMetric.VIEWS, 1L, PageRequest.of(1, 2));
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).containsExactly(9L, 4L);
+        assertThat(page.get().getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("리더보드가 비어 있거나 Redis 장애 시 empty (SQL 대체)")
+    void findPostIds_Unavailable() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.zCard("leaderboard:likes:all")).willReturn(0L);
+        given(zSetOperations.zCard("leaderboard:views:all"))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(leaderboard.findPostIds(LeaderboardMetric.LIKES, null, PageRequest.of(0, 20))).isEmpty();
+        assertThat(leaderboard.findPostIds(LeaderboardMetric.VIEWS, null, PageRequest.of(0, 20))).isEmpty();
+        verify(zSetOperations, never()).reverseRange(anyString(), anyLong(), anyLong());
+    }
+
+    private static ZSetOperations.TypedTuple<String> tuple(Long postId, double score) {
+        return new DefaultTypedTuple<>(String.format("%019d", postId), score);
+    }
+}
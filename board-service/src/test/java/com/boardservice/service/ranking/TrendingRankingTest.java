@@ -0,0 +1,127 @@
+package com.boardservice.service.ranking;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import com.boardservice.dto.post.PostSummary;
+import com.boardservice.repository.PostRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TrendingRanking 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingRankingTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private TrendingRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        moveTo(START);
+        ranking.rebase();
+    }
+
+    @Test
+    @DisplayName("같은 인터랙션 수라도 최근 게시글이 위 (반감기 6시간 감쇠)")
+    void onInteraction_RecentRanksHigher() {
+        // given
+        given(postRepository.findSummariesByIdIn(anyCollection()))
+                .willReturn(List.of(summary(1L, 1L)))
+                .willReturn(List.of(summary(2L, 1L)));
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.LIKE, 1L, 2L));
+
+        // when
+        moveTo(START.plus(Duration.ofHours(12)));
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.LIKE, 2L, 1L));
+
+        // then
+        assertThat(ranking.findTopPostIds(null)).containsExactly(2L, 1L);
+        assertThat(ranking.scoreOf(1L)).isCloseTo(6 * 0.25, within(1e-9));
+        assertThat(ranking.scoreOf(2L)).isCloseTo(3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("게시판별 랭킹 분리 및 이미 추적 중인 게시글은 DB 조회 없이 갱신")
+    void onInteraction_PerBoard() {
+        // given
+        given(postRepository.findSummariesByIdIn(anyCollection()))
+                .willReturn(List.of(summary(1L, 1L), summary(2L, 2L)));
+
+        // when
+        ranking.onInteraction(new PostInteractionEvent(InteractionType.COMMENT, Map.of(1L, 1L, 2L, 1L)));
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.SHARE, 2L, 1L));
+
+        // then
+        assertThat(ranking.findTopPostIds(null)).containsExactly(2L, 1L);
+        assertThat(ranking.findTopPostIds(1L)).containsExactly(1L);
+        assertThat(ranking.findTopPostIds(2L)).containsExactly(2L);
+        assertThat(ranking.findTopPostIds(3L)).isEmpty();
+        verify(postRepository, times(1)).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("정비 시 감쇠된 점수는 유지하고 식은 게시글은 제거")
+    void rebase_KeepsScoresAndPrunesCold() {
+        // given
+        given(postRepository.findSummariesByIdIn(anyCollection()))
+                .willReturn(List.of(summary(1L, 1L)))
+                .willReturn(List.of(summary(2L, 1L)));
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.VIEW, 1L, 1L));
+        moveTo(START.plus(Duration.ofDays(2)));
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.LIKE, 2L, 1L));
+        double before = ranking.scoreOf(2L);
+
+        // when
+        ranking.rebase();
+
+        // then
+        assertThat(ranking.scoreOf(2L)).isCloseTo(before, within(1e-9));
+        assertThat(ranking.scoreOf(1L)).isZero();
+        assertThat(ranking.findTopPostIds(null)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("가중치가 없는 인터랙션(북마크)은 무시")
+    void onInteraction_IgnoresBookmark() {
+        // when
+        ranking.onInteraction(PostInteractionEvent.of(InteractionType.BOOKMARK, 1L, 1L));
+
+        // then
+        assertThat(ranking.findTopPostIds(null)).isEmpty();
+        verify(postRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    private void moveTo(Instant instant) {
+        ranking.clock = Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private PostSummary summary(Long id, Long boardId) {
+        return new PostSummary(id, "제목", "요약", 1L, boardId, "게시판",
+                0L, 0, 0, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,181 @@
+package com.boardservice.service.search;
+
+import java.util.List;
+import java.util.Map;
+
+import com.boardservice.dto.post.PostSearchResponse;
+import com.boardservice.entity.BoardCategory;
+import com.boardservice.entity.Post;
+import com.boardservice.repository.PostRepository;
+import com.boardservice.repository.PostSearchHit;
+import com.boardservice.service.UserInfoService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PostSearchService 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserInfoService userInfoService;
+
+    @InjectMocks
+    private PostSearchService postSearchService;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    private Post first;
+    private Post second;
+
+    @BeforeEach
+    void setUp() {
+        BoardCategory board = BoardCategory.builder()
+                .id(1L)
+                .name("자유게시판")
+                .isActive(true)
+                .postCount(0)
+                .build();
+
+        first = Post.builder()
+                .id(1L)
+                .title("스프링 부트 입문")
+                .content("스프링 부트로 게시판 만들기")
+                .userId(1L)
+                .board(board)
+                .build();
+
+        second = Post.builder()
+                .id(2L)
+                .title("스프링 <시큐리티>")
+                .content("인증과 인가")
+                .userId(2L)
+                .board(board)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전문 검색 - 관련도 순서 유지 및 하이라이트")
+    void search_FullText() {
+        // given
+        String query = "+\"스프링\"";
+        given(postRepository.countFullText(query)).willReturn(2L);
+        given(postRepository.searchFullText(query, 0L, 20))
+                .willReturn(List.of(new PostSearchHit(2L, 3.2), new PostSearchHit(1L, 1.1)));
+        given(postRepository.findAllWithBoardByIdIn(List.of(2L, 1L))).willReturn(List.of(first, second));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "alice", 2L, "bob"));
+
+        // when
+        Page<PostSearchResponse> result = postSearchService.search("스프링", pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(r -> r.getPost().getId()).containsExactly(2L, 1L);
+        assertThat(result.getContent()).extracting(PostSearchResponse::getScore).containsExactly(3.2, 1.1);
+
+        PostSearchResponse top = result.getContent().get(0);
+        assertThat(top.getPost().getUsername()).isEqualTo("bob");
+        assertThat(top.getTitleHighlight()).isEqualTo("<em>스프링</em> &lt;시큐리티&gt;");
+        verify(postRepository, never()).searchByKeyword(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("전문 검색 - 결과가 없으면 목록 조회 생략")
+    void search_FullText_Empty() {
+        // given
+        given(postRepository.countFullText("+\"없는검색어\"")).willReturn(0L);
+
+        // when
+        Page<PostSearchResponse> result = postSearchService.search("없는검색어", pageable);
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        verify(postRepository, never()).searchFullText(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 검색어는 LIKE 검색으로 대체")
+    void search_ShortTerm_FallbackToLike() {
+        // given
+        given(postRepository.searchByKeyword("인", pageable))
+                .willReturn(new PageImpl<>(List.of(second), pageable, 1));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(2L, "bob"));
+
+        // when
+        Page<PostSearchResponse> result = postSearchService.search("인", pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getScore()).isNull();
+        assertThat(result.getContent().get(0).getContentHighlight()).isEqualTo("<em>인</em>증과 <em>인</em>가");
+        verify(postRepository, never()).countFullText(anyString());
+    }
+
+    @Test
+    @DisplayName("전문 검색 실패 시 LIKE 검색으로 대체")
+    void search_FullTextFailure_FallbackToLike() {
+        // given
+        given(postRepository.countFullText(anyString()))
+                .willThrow(new DataAccessResourceFailureException("index rebuilding"));
+        given(postRepository.searchByKeyword("스프링", pageable))
+                .willReturn(new PageImpl<>(List.of(first), pageable, 1));
+        given(userInfoService.getUsernames(anySet())).willReturn(Map.of(1L, "alice"));
+
+        // when
+        Page<PostSearchResponse> result = postSearchService.search("스프링", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(r -> r.getPost().getId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색식 생성 - BOOLEAN MODE 연산자 제거 후 모든 검색어 필수")
+    void toBooleanQuery() {
+        // when
+        List<String> terms = PostSearchService.extractTerms("  스프링 -부트* \"게시판\" 스프링 ");
+
+        // then
+        assertThat(terms).containsExactly("스프링", "부트", "게시판");
+        assertThat(PostSearchService.toBooleanQuery(terms)).isEqualTo("+\"스프링\" +\"부트\" +\"게시판\"");
+    }
+
+    @Test
+    @DisplayName("본문 요약 - 첫 일치 구간 주변을 잘라 하이라이트")
+    void snippet() {
+        // given
+        SearchHighlighter highlighter = new SearchHighlighter(List.of("검색"));
+        String text = "가".repeat(100) + "검색" + "나".repeat(100);
+
+        // when
+        String snippet = highlighter.snippet(text, 20);
+
+        // then
+        assertThat(snippet).startsWith("...").endsWith("...").contains("<em>검색</em>");
+        assertThat(snippet.replace("<em>", "").replace("</em>", "")).hasSize(26);
+    }
+}
@@ -0,0 +1,85 @@
+package com.boardservice.service.view;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BloomFilterViewDeduplicator 단위 테스트 (table 전략 대비 정확도 포함).
+ */
+class BloomFilterViewDeduplicatorTest {
+
+    private final LocalDate today = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("같은 날 같은 사용자의 재조회는 중복")
+    void markFirstView_SameDay() {
+        // given
+        BloomFilterViewDeduplicator deduplicator = new BloomFilterViewDeduplicator(1000, 0.01);
+
+        // when & then
+        assertThat(deduplicator.markFirstView(1L, 1L, today)).isTrue();
+        assertThat(deduplicator.markFirstView(1L, 1L, today)).isFalse();
+        assertThat(deduplicator.markFirstView(1L, 2L, today)).isTrue();
+        assertThat(deduplicator.markFirstView(2L, 1L, today)).isTrue();
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 filter 교체 - 다시 첫 조회")
+    void markFirstView_NextDay() {
+        // given
+        BloomFilterViewDeduplicator deduplicator = new BloomFilterViewDeduplicator(1000, 0.01);
+        deduplicator.markFirstView(1L, 1L, today);
+
+        // when & then
+        assertThat(deduplicator.markFirstView(1L, 1L, today.plusDays(1))).isTrue();
+        assertThat(deduplicator.markFirstView(1L, 1L, today.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("정확도 - 정확한 중복 판별(table 전략) 대비 누락률이 설정한 오탐률 이내")
+    void markFirstView_AccuracyAgainstExact() {
+        // given
+        int expected = 100_000;
+        double falsePositiveRate = 0.01;
+        BloomFilterViewDeduplicator deduplicator = new BloomFilterViewDeduplicator(expected, falsePositiveRate);
+        Set<Long> exact = new HashSet<>();
+        Random random = new Random(42);
+
+        long exactCount = 0;
+        long bloomCount = 0;
+
+        // when - 중복을 포함한 조회 요청 (게시글 1000개 x 사용자 200명 범위)
+        for (int i = 0; i < expected * 2; i++) {
+            long postId = random.nextInt(1000) + 1;
+            long userId = random.nextInt(200);
+            if (exact.add(postId * 1_000_000L + userId)) {
+                exactCount++;
+            }
+            if (deduplicator.markFirstView(postId, userId, today)) {
+                bloomCount++;
+            }
+        }
+
+        // then - Bloom filter는 거짓 음성이 없으므로 과다 카운트는 발생하지 않음
+        assertThat(bloomCount).isLessThanOrEqualTo(exactCount);
+        assertThat((double) (exactCount - bloomCount) / exactCount).isLessThan(falsePositiveRate);
+    }
+
+    @Test
+    @DisplayName("filter 크기 - 예상 원소 수와 오탐률로 계산")
+    void bloomFilter_Sizing() {
+        // when
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // then - 약 9.6 bits/원소, 해시 7개
+        assertThat(filter.bitSize()).isBetween(9_500_000L, 9_700_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,109 @@
+package com.boardservice.service.view;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * RedisSetViewDeduplicator 단위 테스트 (table 전략 대비 정확도 포함).
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSetViewDeduplicatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private RedisSetViewDeduplicator deduplicator;
+
+    private final LocalDate today = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("SADD로 새로 추가되면 첫 조회 - SADD와 EXPIRE(이틀)를 스크립트 한 번으로 실행")
+    void markFirstView_FirstView() {
+        // given
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("views:set:1:20260101")), eq("1"), eq("172800"))).willReturn(1L);
+
+        // when & then
+        assertThat(deduplicator.markFirstView(1L, 1L, today)).isTrue();
+    }
+
+    @Test
+    @DisplayName("SADD 결과가 0이면 중복")
+    void markFirstView_AlreadyViewed() {
+        // given
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("views:set:1:20260101")), eq("1"), eq("172800"))).willReturn(0L);
+
+        // when & then
+        assertThat(deduplicator.markFirstView(1L, 1L, today)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정확도 - 조회자가 많은 게시글도 정확한 중복 판별(table 전략)과 같은 수를 카운트")
+    void markFirstView_AccuracyAgainstExact() {
+        // given - Redis SET 동작을 메모리로 대체
+        Map<String, Set<String>> sets = new HashMap<>();
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                ArgumentMatchers.<List<String>>any(), anyString(), anyString())).willAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    String member = invocation.getArgument(2);
+                    return sets.computeIfAbsent(keys.get(0), k -> new HashSet<>()).add(member) ? 1L : 0L;
+                });
+        Set<Long> exact = new HashSet<>();
+        Random random = new Random(42);
+
+        long exactCount = 0;
+        long redisCount = 0;
+
+        // when - 중복을 포함한 조회 요청 (인기 게시글 3개 x 사용자 50,000명 범위)
+        for (int i = 0; i < 200_000; i++) {
+            long postId = random.nextInt(3) + 1;
+            long userId = random.nextInt(50_000);
+            if (exact.add(postId * 1_000_000L + userId)) {
+                exactCount++;
+            }
+            if (deduplicator.markFirstView(postId, userId, today)) {
+                redisCount++;
+            }
+        }
+
+        // then
+        assertThat(redisCount).isEqualTo(exactCount);
+    }
+
+    @Test
+    @DisplayName("일자별 고유 조회자 수 조회 (SCARD)")
+    void countUniqueViewers_Success() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.size("views:set:1:20260101")).willReturn(42L);
+
+        // when & then
+        assertThat(deduplicator.countUniqueViewers(1L, today)).isEqualTo(42L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.boardservice.service.view;
+
+import java.time.LocalDate;
+
+import com.boardservice.entity.ViewHistory;
+import com.boardservice.repository.ViewHistoryRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TableViewDeduplicator 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class TableViewDeduplicatorTest {
+
+    @Mock
+    private ViewHistoryRepository viewHistoryRepository;
+
+    @InjectMocks
+    private TableViewDeduplicator deduplicator;
+
+    @Test
+    @DisplayName("첫 조회 - 조회 이력 저장")
+    void markFirstView_FirstView() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(1L, 1L, today))
+                .willReturn(false);
+
+        // when
+        boolean first = deduplicator.markFirstView(1L, 1L, today);
+
+        // then
+        assertThat(first).isTrue();
+        verify(viewHistoryRepository).save(any(ViewHistory.class));
+    }
+
+    @Test
+    @DisplayName("오늘 이미 조회함 - 이력 저장 안 함")
+    void markFirstView_AlreadyViewed() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(viewHistoryRepository.existsByPostIdAndUserIdAndViewDate(1L, 1L, today))
+                .willReturn(true);
+
+        // when
+        boolean first = deduplicator.markFirstView(1L, 1L, today);
+
+        // then
+        assertThat(first).isFalse();
+        verify(viewHistoryRepository, never()).save(any(ViewHistory.class));
+    }
+}
@@ -14,6 +14,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class UserDto {
+
+    /**
+     * 사용자 일괄 조회 한 번에 요청할 수 있는 최대 ID 수 (user-service 검증과 호출 측 분할에 공통 사용).
+     */
+    public static final int MAX_BATCH_IDS = 1000;
+
     private Long id;
     private String username;
     private String email;
@@ -0,0 +1,44 @@
+package com.common.security;
+
+/**
+ * 사용자 토큰 에포크 변경 이벤트.
+ * 에포크를 올리면 그 이전 에포크로 발급된 사용자의 모든 Access Token이 O(1)로 폐기됩니다.
+ * 현재 값은 Redis HASH({@link #KEY}, field=사용자 ID)에 저장됩니다.
+ *
+ * @param userId 사용자 ID
+ * @param epoch 새 에포크
+ */
+public record TokenEpoch(Long userId, long epoch) {
+
+    /** 에포크 변경 Pub/Sub 채널. */
+    public static final String CHANNEL = "token:epoch";
+
+    /** 사용자별 현재 에포크 HASH 키. */
+    public static final String KEY = "token:epochs";
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Pub/Sub 메시지 본문으로 직렬화.
+     *
+     * @return "사용자ID:에포크"
+     */
+    public String encode() {
+        return String.valueOf(userId) + SEPARATOR + epoch;
+    }
+
+    /**
+     * Pub/Sub 메시지 본문 역직렬화.
+     *
+     * @param message "사용자ID:에포크"
+     * @return 에포크 변경 이벤트
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TokenEpoch decode(String message) {
+        int idx = message.indexOf(SEPARATOR);
+        if (idx <= 0) {
+            throw new IllegalArgumentException("잘못된 토큰 에포크 메시지입니다: " + message);
+        }
+        return new TokenEpoch(Long.parseLong(message.substring(0, idx)), Long.parseLong(message.substring(idx + 1)));
+    }
+}
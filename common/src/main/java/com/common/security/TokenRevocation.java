@@ -0,0 +1,57 @@
+package com.common.security;
+
+/**
+ * 로그아웃으로 폐기된 Access Token 이벤트.
+ * user-service가 Redis 블랙리스트 키, Pub/Sub 채널, 폐기 인덱스(ZSET)에 기록하고,
+ * gateway-service가 이를 구독해 로컬 블랙리스트를 유지합니다.
+ * 토큰 원문 대신 짧은 {@link VerifiedToken#tokenId()}만 저장/전파합니다.
+ *
+ * @param tokenId 토큰 식별자 (jti)
+ * @param expiresAtMillis 토큰 만료 시각 (epoch ms)
+ */
+public record TokenRevocation(String tokenId, long expiresAtMillis) {
+
+    /** 폐기 이벤트 Pub/Sub 채널. */
+    public static final String CHANNEL = "token:revoked";
+
+    /** 폐기 인덱스 ZSET 키 (member=토큰 식별자, score=만료 시각). 구독 시작 시 스냅샷 적재에 사용됩니다. */
+    public static final String INDEX_KEY = "token:revoked:index";
+
+    private static final String KEY_PREFIX = "token:revoked:id:";
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 토큰별 블랙리스트 키.
+     *
+     * @param tokenId 토큰 식별자
+     * @return Redis 키
+     */
+    public static String keyOf(String tokenId) {
+        return KEY_PREFIX + tokenId;
+    }
+
+    /**
+     * Pub/Sub 메시지 본문으로 직렬화.
+     *
+     * @return "토큰식별자:만료시각"
+     */
+    public String encode() {
+        return tokenId + SEPARATOR + expiresAtMillis;
+    }
+
+    /**
+     * Pub/Sub 메시지 본문 역직렬화.
+     *
+     * @param message "토큰식별자:만료시각"
+     * @return 폐기 이벤트
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TokenRevocation decode(String message) {
+        int idx = message.lastIndexOf(SEPARATOR);
+        if (idx <= 0) {
+            throw new IllegalArgumentException("잘못된 토큰 폐기 메시지입니다: " + message);
+        }
+        return new TokenRevocation(message.substring(0, idx), Long.parseLong(message.substring(idx + 1)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.common.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 클레임.
+ *
+ * @param userId 사용자 ID (sub)
+ * @param tokenId 토큰 식별자 (jti, 없는 구버전 토큰은 토큰 다이제스트)
+ * @param epoch 발급 당시 사용자 토큰 에포크 (없으면 0)
+ * @param issuedAt 발급 시각 (iat)
+ * @param expiresAt 만료 시각 (exp)
+ */
+public record VerifiedToken(Long userId, String tokenId, long epoch, Instant issuedAt, Instant expiresAt) {
+
+    /**
+     * 주어진 시각 기준 만료 여부.
+     *
+     * @param now 기준 시각
+     * @return 만료 여부
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 사용자의 현재 에포크 기준 폐기 여부.
+     * 에포크가 올라가면 그 이전에 발급된 모든 토큰이 폐기됩니다.
+     *
+     * @param currentEpoch 사용자의 현재 토큰 에포크
+     * @return 폐기 여부
+     */
+    public boolean isBefore(long currentEpoch) {
+        return epoch < currentEpoch;
+    }
+}
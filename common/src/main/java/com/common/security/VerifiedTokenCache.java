@@ -0,0 +1,113 @@
+package com.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 클레임 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 exp 시각에 만료됩니다.
+ * 크기 제한(W-TinyLFU)과 통계 기록이 켜져 있어 CaffeineCacheMetrics로 적중률/축출 지표를 노출할 수 있습니다.
+ * 검증에 실패한 토큰은 캐시하지 않습니다.
+ */
+public class VerifiedTokenCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * 검증 토큰 캐시 생성.
+     *
+     * @param maximumSize 최대 캐시 항목 수
+     */
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 클레임을 반환하고, 없으면 verifier로 검증한 뒤 저장합니다.
+     * verifier가 던진 예외는 그대로 전파됩니다.
+     *
+     * @param token JWT 토큰
+     * @param verifier 서명 검증 및 클레임 파싱 함수
+     * @return 검증된 클레임
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = verifier.apply(token);
+        if (!verified.isExpired(Instant.now())) {
+            cache.put(digest, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 토큰을 캐시에서 제거합니다.
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 메트릭 바인딩용 원본 캐시.
+     *
+     * @return Caffeine 캐시
+     */
+    public Cache<String, VerifiedToken> nativeCache() {
+        return cache;
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (Base64 URL-safe).
+     *
+     * @param token JWT 토큰
+     * @return 다이제스트 문자열
+     */
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 항목 수명을 토큰의 남은 유효시간으로 맞추는 만료 정책.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
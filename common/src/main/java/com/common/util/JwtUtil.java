@@ -1,10 +1,17 @@
 package com.common.util;
 
+import com.common.security.VerifiedToken;
+import com.common.security.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,9 +21,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtUtil {
 
+    /** 사용자 토큰 에포크 클레임 이름. */
+    public static final String EPOCH_CLAIM = "ep";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private static Key key;
+    private static JwtParser parser;
     private static long accessTokenExpiration;
     private static long refreshTokenExpiration;
+    private static VerifiedTokenCache tokenCache = new VerifiedTokenCache(VerifiedTokenCache.DEFAULT_MAXIMUM_SIZE);
 
     /**
      * JWT 설정을 초기화합니다.
@@ -27,21 +41,59 @@ public class JwtUtil {
      * @param refreshExp Refresh Token 만료 시간
      */
     public static void init(String secret, long accessExp, long refreshExp) {
+        init(secret, accessExp, refreshExp, VerifiedTokenCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * JWT 설정과 검증 토큰 캐시 크기를 초기화합니다.
+     * 키가 바뀔 수 있으므로 기존 캐시는 버리고 새로 만듭니다.
+     *
+     * @param secret 시크릿 키
+     * @param accessExp Access Token 만료 시간
+     * @param refreshExp Refresh Token 만료 시간
+     * @param tokenCacheSize 검증 토큰 캐시 최대 항목 수
+     */
+    public static void init(String secret, long accessExp, long refreshExp, long tokenCacheSize) {
         key = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
         accessTokenExpiration = accessExp;
         refreshTokenExpiration = refreshExp;
+        tokenCache = new VerifiedTokenCache(tokenCacheSize);
         log.info("JwtUtil initialized with secret key and expirations.");
     }
 
     /**
-     * Access Token 생성.
+     * 검증 토큰 캐시 (메트릭 바인딩용).
+     *
+     * @return 검증 토큰 캐시
+     */
+    public static VerifiedTokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    /**
+     * Access Token 생성 (에포크 0).
      *
      * @param userId 사용자 ID
      * @return 생성된 Access Token
      */
     public static String generateAccessToken(Long userId) {
+        return generateAccessToken(userId, 0L);
+    }
+
+    /**
+     * Access Token 생성.
+     * 폐기 시 짧은 키로 식별할 수 있도록 jti와 사용자 토큰 에포크를 함께 담습니다.
+     *
+     * @param userId 사용자 ID
+     * @param epoch 사용자의 현재 토큰 에포크
+     * @return 생성된 Access Token
+     */
+    public static String generateAccessToken(Long userId, long epoch) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .setId(newTokenId())
+                .claim(EPOCH_CLAIM, epoch)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -63,6 +115,42 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰을 검증하고 클레임을 반환합니다.
+     * 한 번 검증된 토큰은 만료 시각까지 캐시에서 바로 반환됩니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws io.jsonwebtoken.JwtException 서명이 잘못되었거나 만료된 경우
+     */
+    public static VerifiedToken verify(String token) {
+        VerifiedToken verified = tokenCache.get(token, JwtUtil::parse);
+        if (verified.isExpired(Instant.now())) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + verified.expiresAt());
+        }
+        return verified;
+    }
+
+    private static VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Number epoch = claims.get(EPOCH_CLAIM, Number.class);
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.getId() != null ? claims.getId() : VerifiedTokenCache.digest(token),
+                epoch != null ? epoch.longValue() : 0L,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 128비트 난수 토큰 식별자 (Base64 URL-safe, 22자).
+     */
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /**
      * 토큰에서 사용자 ID 추출.
      *
@@ -70,12 +158,7 @@ public class JwtUtil {
      * @return 사용자 ID
      */
     public static Long getUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.parseLong(claims.getSubject());
+        return verify(token).userId();
     }
 
     /**
@@ -86,14 +169,7 @@ public class JwtUtil {
      */
     public static Long getExpiration(String token) {
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-            long now = new Date().getTime();
-            return (expiration.getTime() - now);
+            return verify(token).expiresAt().toEpochMilli() - System.currentTimeMillis();
         } catch (Exception e) {
             return 0L;
         }
@@ -107,10 +183,7 @@ public class JwtUtil {
      */
     public static boolean validate(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -0,0 +1,61 @@
+package com.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 게이트웨이에 저장된 응답 스냅샷.
+ *
+ * @param status 상태 코드
+ * @param headers 응답 헤더 (읽기 전용 사본)
+ * @param body 응답 본문
+ * @param storedAtNanos 저장 시각 (System.nanoTime)
+ * @param freshNanos 신선 유지 시간
+ * @param staleNanos 신선 기간 이후 stale 응답 허용 시간
+ */
+public record CachedResponse(int status, HttpHeaders headers, byte[] body,
+                             long storedAtNanos, long freshNanos, long staleNanos) {
+
+    /**
+     * 저장 후 경과 시간.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 경과 시간 (ns)
+     */
+    public long ageNanos(long nowNanos) {
+        return nowNanos - storedAtNanos;
+    }
+
+    /**
+     * 신선 여부.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return TTL 이내면 true
+     */
+    public boolean isFresh(long nowNanos) {
+        return ageNanos(nowNanos) < freshNanos;
+    }
+
+    /**
+     * 재전송용 응답 헤더 사본 (hop-by-hop 및 길이 헤더 제외, 읽기 전용).
+     *
+     * @param headers 원본 응답 헤더
+     * @return 헤더 사본
+     */
+    public static HttpHeaders snapshotHeaders(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.addAll(headers);
+        copy.remove(HttpHeaders.TRANSFER_ENCODING);
+        copy.remove(HttpHeaders.CONNECTION);
+        copy.remove(HttpHeaders.CONTENT_LENGTH);
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    /**
+     * 캐시 메모리 가중치 (본문 + 헤더 근사치).
+     *
+     * @return 바이트 수
+     */
+    public int weight() {
+        return body.length + headers.size() * 64 + 64;
+    }
+}
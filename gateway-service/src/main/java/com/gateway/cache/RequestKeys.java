@@ -0,0 +1,40 @@
+package com.gateway.cache;
+
+import java.util.List;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 응답 캐시/요청 합치기용 요청 키 생성 유틸리티.
+ */
+public final class RequestKeys {
+
+    private RequestKeys() {
+    }
+
+    /**
+     * 라우트 ID, 경로, 쿼리와 지정한 헤더 값으로 요청 키를 만듭니다.
+     *
+     * @param exchange 현재 교환
+     * @param varyHeaders 키에 포함할 요청 헤더
+     * @return 요청 키
+     */
+    public static String of(ServerWebExchange exchange, List<String> varyHeaders) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        StringBuilder key = new StringBuilder(route != null ? route.getId() : "-")
+                .append(' ')
+                .append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : varyHeaders) {
+            key.append('|').append(header).append('=').append(request.getHeaders().getFirst(header));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이 응답 캐시 저장소.
+ * 전체 본문 바이트 합계로 크기를 제한하며(W-TinyLFU), 각 항목은 TTL + stale 허용 시간이 지나면 만료됩니다.
+ * 적중/미스/축출 지표는 cache.* 메트릭(cache=gatewayResponses)으로 노출됩니다.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final Cache<String, CachedResponse> cache;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 응답 캐시 저장소 생성.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param maximumWeightBytes 전체 캐시 최대 바이트 수
+     */
+    public ResponseCacheStore(MeterRegistry meterRegistry,
+                              @Value("${response-cache.maximum-weight-bytes:67108864}") long maximumWeightBytes) {
+        Cache<String, CachedResponse> built = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, CachedResponse value) -> value.weight() + key.length())
+                .expireAfter(new UntilStale())
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, built, "gatewayResponses");
+    }
+
+    /**
+     * 캐시 조회.
+     *
+     * @param key 캐시 키
+     * @return 저장된 응답 (없으면 null)
+     */
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 응답 저장.
+     *
+     * @param key 캐시 키
+     * @param response 응답 스냅샷
+     */
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * stale 항목 재검증 권한 획득. 키마다 한 요청만 upstream으로 보냅니다.
+     *
+     * @param key 캐시 키
+     * @return 권한을 얻었으면 true
+     */
+    public boolean tryBeginRevalidation(String key) {
+        return revalidating.add(key);
+    }
+
+    /**
+     * 재검증 종료.
+     *
+     * @param key 캐시 키
+     */
+    public void endRevalidation(String key) {
+        revalidating.remove(key);
+    }
+
+    /**
+     * 항목 수명을 신선 기간 + stale 허용 시간으로 맞추는 만료 정책.
+     */
+    private static class UntilStale implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.freshNanos() + value.staleNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
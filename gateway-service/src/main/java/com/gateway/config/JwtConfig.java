@@ -1,16 +1,22 @@
 package com.gateway.config;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
 import com.common.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * JWT 설정 초기화 클래스.
  */
 @Configuration
+@RequiredArgsConstructor
 public class JwtConfig {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${token.secret}")
     private String secret;
 
@@ -20,11 +26,16 @@ public class JwtConfig {
     @Value("${token.refresh-expiration}")
     private long refreshExpiration;
 
+    @Value("${token.cache.maximum-size:10000}")
+    private long tokenCacheSize;
+
     /**
      * JwtUtil 초기화.
+     * 검증 토큰 캐시의 적중/미스/축출 지표는 cache.* 메트릭(cache=verifiedTokens)으로 노출됩니다.
      */
     @PostConstruct
     public void init() {
-        JwtUtil.init(secret, accessExpiration, refreshExpiration);
+        JwtUtil.init(secret, accessExpiration, refreshExpiration, tokenCacheSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, JwtUtil.getTokenCache().nativeCache(), "verifiedTokens");
     }
 }
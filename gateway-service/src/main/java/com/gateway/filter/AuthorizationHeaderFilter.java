@@ -2,7 +2,6 @@ package com.gateway.filter;
 
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -10,27 +9,38 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import com.common.security.VerifiedToken;
 import com.common.util.JwtUtil;
+import com.gateway.security.TokenBlacklistNearCache;
 
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 /**
  * JWT 인증 필터 (Gateway용).
+ * required=false(선택 인증)이면 토큰 없는 요청은 익명으로 통과시키고,
+ * 토큰이 있으면 필수 인증과 같이 서명/만료/폐기 여부를 확인해 실패 시 401을 반환합니다.
  */
 @Component
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
 
-    private final ReactiveStringRedisTemplate redisTemplate;
+    /** 검증된 사용자 ID를 담는 exchange 속성 (클라이언트가 보낸 헤더와 구분). */
+    public static final String USER_ID_ATTR = AuthorizationHeaderFilter.class.getName() + ".userId";
 
-    public AuthorizationHeaderFilter(ReactiveStringRedisTemplate redisTemplate) {
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private final TokenBlacklistNearCache blacklist;
+
+    public AuthorizationHeaderFilter(TokenBlacklistNearCache blacklist) {
         super(Config.class);
-        this.redisTemplate = redisTemplate;
+        this.blacklist = blacklist;
     }
 
+    @Data
     public static class Config {
-        // 설정 정보가 필요하다면 여기에 추가
+        private boolean required = true;
     }
 
     @Override
@@ -41,28 +51,38 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             // 1. Authorization 헤더 존재 여부 확인
             String authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
             if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer")) {
+                if (!config.isRequired()) {
+                    // 클라이언트가 보낸 사용자 ID 헤더는 신뢰하지 않음
+                    ServerHttpRequest anonymous = request.mutate()
+                            .headers(headers -> headers.remove(USER_ID_HEADER))
+                            .build();
+                    return chain.filter(exchange.mutate().request(anonymous).build());
+                }
                 return onError(exchange, "No Bearer token", HttpStatus.UNAUTHORIZED);
             }
 
             // 2. Bearer 토큰 추출
             String jwt = authorizationHeader.replace("Bearer", "").trim();
 
-            // 3. Redis 블랙리스트 확인
-            return redisTemplate.hasKey(jwt)
+            // 3. 토큰 유효성 검증 (검증 결과는 만료 시각까지 캐시)
+            VerifiedToken token;
+            try {
+                token = JwtUtil.verify(jwt);
+            } catch (Exception e) {
+                return onError(exchange, "JWT token is not valid", HttpStatus.UNAUTHORIZED);
+            }
+
+            // 4. 블랙리스트/토큰 에포크 확인 (로컬 Near-cache, 미동기화 시 Redis)
+            return blacklist.isRevoked(token)
                     .flatMap(isBlacklisted -> {
                         if (isBlacklisted) {
                             return onError(exchange, "Token is blacklisted (Logout)", HttpStatus.UNAUTHORIZED);
                         }
 
-                        // 4. 토큰 유효성 검증
-                        if (!JwtUtil.validate(jwt)) {
-                            return onError(exchange, "JWT token is not valid", HttpStatus.UNAUTHORIZED);
-                        }
-
                         // 5. 하위 서비스에 userId 전달
-                        Long userId = JwtUtil.getUserId(jwt);
+                        exchange.getAttributes().put(USER_ID_ATTR, token.userId());
                         ServerHttpRequest modifiedRequest = request.mutate()
-                                .header("X-User-Id", String.valueOf(userId))
+                                .header(USER_ID_HEADER, String.valueOf(token.userId()))
                                 .build();
 
                         return chain.filter(exchange.mutate().request(modifiedRequest).build());
@@ -1,50 +1,102 @@
 package com.gateway.filter;
 
+import com.gateway.logging.AccessLogRecord;
+import com.gateway.logging.AccessLogWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
-import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * 접근 로그 필터.
+ * 요청마다 한 건의 구조화된 레코드(메서드, 경로, 상태, 소요 시간, 응답 바이트)를 만들어
+ * {@link AccessLogWriter}에 넘기며, 실제 기록은 백그라운드 스레드에서 이루어집니다.
+ * 샘플링 비율은 필터 인자 sampleRate로, 라우트별 제외는 라우트 메타데이터 access-log: false로 설정합니다.
+ * 5xx 응답은 샘플링과 관계없이 항상 기록합니다.
+ */
 @Component
-@Slf4j
 public class LoggingFilter extends AbstractGatewayFilterFactory<LoggingFilter.Config> {
 
-    public LoggingFilter() {
+    /** 라우트별 접근 로그 사용 여부 메타데이터 키. */
+    public static final String ROUTE_METADATA_KEY = "access-log";
+
+    private final AccessLogWriter accessLogWriter;
+
+    public LoggingFilter(AccessLogWriter accessLogWriter) {
         super(Config.class);
+        this.accessLogWriter = accessLogWriter;
     }
 
     @Data
     public static class Config {
-        private String baseMessage;
-        private boolean preLogger;
-        private boolean postLogger;
+        private boolean enabled = true;
+        private double sampleRate = 1.0;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         return new OrderedGatewayFilter((exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-            log.info("Logging Filter baseMessage: {}", config.getBaseMessage());
-
-            if (config.isPreLogger()) {
-                log.info("Logging PRE filter: request id -> {}", request.getId());
-                log.info("Logging PRE filter: request path -> {}", request.getPath());
-                log.info("Logging PRE filter: request method -> {}", request.getMethod());
+            if (!config.isEnabled() || isDisabledForRoute(exchange)) {
+                return chain.filter(exchange);
             }
 
-            // Custom Post Filter
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("Logging POST filter: response code -> {}", response.getStatusCode());
+            long start = System.nanoTime();
+            AtomicLong bytes = new AtomicLong();
+            ServerHttpResponse response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    return super.writeWith(Flux.from(body).doOnNext(buf -> bytes.addAndGet(buf.readableByteCount())));
                 }
-            }));
-        }, OrderedGatewayFilter.LOWEST_PRECEDENCE); // 가장 마지막에 실행되도록 설정
+            };
+
+            return chain.filter(exchange.mutate().response(response).build())
+                    .doFinally(signal -> record(exchange, config, start, bytes.get()));
+        }, OrderedGatewayFilter.HIGHEST_PRECEDENCE); // 캐시 HIT, 합쳐진 요청, 401/429까지 기록하도록 체인 전체를 감쌈
+    }
+
+    private void record(ServerWebExchange exchange, Config config, long start, long bytes) {
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : 0;
+        if (status < 500 && ThreadLocalRandom.current().nextDouble() >= config.getSampleRate()) {
+            return;
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        accessLogWriter.submit(new AccessLogRecord(
+                request.getId(),
+                route != null ? route.getId() : "-",
+                request.getMethod().name(),
+                request.getPath().value(),
+                status,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                bytes));
+    }
+
+    private boolean isDisabledForRoute(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null && Boolean.FALSE.equals(toBoolean(route.getMetadata().get(ROUTE_METADATA_KEY)));
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Boolean b ? b : Boolean.valueOf(value.toString());
     }
 }
@@ -0,0 +1,89 @@
+package com.gateway.filter;
+
+import com.gateway.ratelimit.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 사용자/라우트별 요청 수 제한 필터.
+ * AuthorizationHeaderFilter가 검증한 사용자 ID(X-User-Id와 같은 값, 없으면 클라이언트 IP)와 라우트 ID로 토큰 버킷을 선택합니다.
+ * 클라이언트가 직접 보낸 X-User-Id 헤더는 신뢰하지 않습니다.
+ * 라우트 filters 목록에서 AuthorizationHeaderFilter 뒤에 두어야 사용자 단위로 동작합니다.
+ * 거부 시 429와 Retry-After를 반환하고, gateway.rate_limit.rejected{route} 메트릭을 올립니다.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final RateLimiterRegistry registry;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청 수 제한 필터 생성.
+     *
+     * @param registry 토큰 버킷 저장소
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public RateLimitFilter(RateLimiterRegistry registry, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Data
+    public static class Config {
+        private long replenishRate = 20;
+        private long burstCapacity = 40;
+    }
+
+    /**
+     * 라우트 설정으로 필터 생성.
+     * 충전 속도가 0이면 Retry-After를 계산할 수 없으므로 라우트 바인딩 시점에 거부합니다.
+     *
+     * @throws IllegalArgumentException replenishRate 또는 burstCapacity가 0 이하인 경우
+     */
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getReplenishRate() <= 0 || config.getBurstCapacity() <= 0) {
+            throw new IllegalArgumentException("replenishRate와 burstCapacity는 0보다 커야 합니다. replenishRate="
+                    + config.getReplenishRate() + ", burstCapacity=" + config.getBurstCapacity());
+        }
+
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "-";
+
+            long waitNanos = registry.tryConsume(routeId + "|" + clientKey(exchange),
+                    config.getReplenishRate(), config.getBurstCapacity());
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+
+            meterRegistry.counter("gateway.rate_limit.rejected", "route", routeId).increment();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return response.setComplete();
+        };
+    }
+
+    private static String clientKey(ServerWebExchange exchange) {
+        Long userId = exchange.getAttribute(AuthorizationHeaderFilter.USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return "ip:" + (remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : "unknown");
+    }
+}
@@ -0,0 +1,192 @@
+package com.gateway.filter;
+
+import com.gateway.cache.CachedResponse;
+import com.gateway.cache.RequestKeys;
+import com.gateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * GET 응답 캐시 필터.
+ * 라우트, 경로, 쿼리와 설정된 헤더 값으로 키를 만들어 200 응답을 {@link ResponseCacheStore}에 저장합니다.
+ *
+ * <p>TTL 이내면 캐시에서 바로 응답하고(X-Cache: HIT), TTL이 지나 stale 허용 시간 안이면
+ * 키마다 한 요청만 upstream으로 보내 갱신하는 동안 나머지 요청에는 stale 응답을 반환합니다(X-Cache: STALE).
+ * 요청의 Cache-Control: no-cache/no-store는 캐시 조회를 건너뛰고,
+ * 응답의 no-store/no-cache/private 또는 Set-Cookie가 있으면 저장하지 않습니다.
+ * 응답에 s-maxage/max-age가 있으면 라우트 TTL 대신 사용합니다.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheStore store;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 응답 캐시 필터 생성.
+     *
+     * @param store 응답 캐시 저장소
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ResponseCacheFilter(ResponseCacheStore store, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(10);
+        private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+        private List<String> varyHeaders = new ArrayList<>();
+        private int maxEntryBytes = 1024 * 1024;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String requestCacheControl = cacheControlOf(request.getHeaders());
+            boolean noStore = requestCacheControl.contains("no-store");
+            if (noStore || requestCacheControl.contains("no-cache")) {
+                count("bypass");
+                return forward(exchange, chain, config, RequestKeys.of(exchange, config.getVaryHeaders()), noStore);
+            }
+
+            String key = RequestKeys.of(exchange, config.getVaryHeaders());
+            long now = System.nanoTime();
+            CachedResponse cached = store.get(key);
+            if (cached != null) {
+                if (cached.isFresh(now)) {
+                    count("hit");
+                    return writeCached(exchange, cached, "HIT", now);
+                }
+                if (!store.tryBeginRevalidation(key)) {
+                    count("stale");
+                    return writeCached(exchange, cached, "STALE", now);
+                }
+                count("revalidate");
+                return forward(exchange, chain, config, key, false)
+                        .doFinally(signal -> store.endRevalidation(key));
+            }
+
+            count("miss");
+            return forward(exchange, chain, config, key, false);
+        };
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                               String key, boolean noStore) {
+        if (noStore) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpResponse original = exchange.getResponse();
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                long freshNanos = freshnessOf(getStatusCode(), getHeaders(), config);
+                if (freshNanos <= 0) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(Flux.from(body))
+                        .flatMap(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            if (bytes.length <= config.getMaxEntryBytes()) {
+                                store.put(key, new CachedResponse(getStatusCode().value(),
+                                        CachedResponse.snapshotHeaders(getHeaders()), bytes, System.nanoTime(),
+                                        freshNanos, config.getStaleWhileRevalidate().toNanos()));
+                            }
+                            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+        };
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String cacheStatus, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        response.getHeaders().addAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().length);
+        long ageSeconds = TimeUnit.NANOSECONDS.toSeconds(cached.ageNanos(now));
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(ageSeconds));
+        response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * 응답의 신선 유지 시간. 저장하면 안 되는 응답이면 0.
+     */
+    private static long freshnessOf(HttpStatusCode status, HttpHeaders headers, Config config) {
+        if (status == null || status.value() != HttpStatus.OK.value()
+                || headers.containsHeader(HttpHeaders.SET_COOKIE)) {
+            return 0;
+        }
+        String cacheControl = cacheControlOf(headers);
+        if (cacheControl.contains("no-store") || cacheControl.contains("no-cache")
+                || cacheControl.contains("private")) {
+            return 0;
+        }
+        Long maxAge = directiveSeconds(cacheControl, "s-maxage");
+        if (maxAge == null) {
+            maxAge = directiveSeconds(cacheControl, "max-age");
+        }
+        return maxAge != null ? TimeUnit.SECONDS.toNanos(maxAge) : config.getTtl().toNanos();
+    }
+
+    private static Long directiveSeconds(String cacheControl, String directive) {
+        for (String part : cacheControl.split(",")) {
+            String trimmed = part.trim();
+            if (trimmed.startsWith(directive + "=")) {
+                try {
+                    return Long.parseLong(trimmed.substring(directive.length() + 1));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String cacheControlOf(HttpHeaders headers) {
+        String value = headers.getCacheControl();
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("gateway.response_cache.requests", "result", result).increment();
+    }
+}
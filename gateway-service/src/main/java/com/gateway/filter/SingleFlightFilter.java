@@ -0,0 +1,189 @@
+package com.gateway.filter;
+
+import com.gateway.cache.CachedResponse;
+import com.gateway.cache.RequestKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동일 GET 요청 합치기(single-flight) 필터.
+ * 같은 키(라우트, 경로, 쿼리, 조건부 요청 헤더, 설정된 헤더)의 요청이 진행 중이면 upstream으로 보내지 않고
+ * 먼저 나간 요청의 응답을 받아 그대로 돌려줍니다.
+ *
+ * <p>키당 대기자는 maxWaiters까지만 받고, 초과분과 선행 요청이 실패하거나 200/304가 아니거나
+ * 본문이 maxBodyBytes를 넘어 공유할 수 없는 경우에는 각자 upstream으로 보냅니다.
+ * 사용자별 응답이 다른 라우트는 bypassHeaders에 Authorization을 넣어 비로그인 요청만 합치거나,
+ * varyHeaders에 넣어 사용자 단위로만 합쳐야 합니다.
+ */
+@Component
+public class SingleFlightFilter extends AbstractGatewayFilterFactory<SingleFlightFilter.Config> {
+
+    private static final String COALESCED_HEADER = "X-Coalesced";
+    private static final List<String> CONDITIONAL_HEADERS =
+            List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청 합치기 필터 생성.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SingleFlightFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Data
+    public static class Config {
+        private List<String> varyHeaders = new ArrayList<>();
+        private List<String> bypassHeaders = new ArrayList<>();
+        private int maxWaiters = 1000;
+        private int maxBodyBytes = 1024 * 1024;
+    }
+
+    /**
+     * 진행 중인 upstream 요청 1건과 그 결과를 기다리는 대기자.
+     */
+    private static final class Flight {
+        private final Sinks.One<SharedResponse> result = Sinks.one();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    /**
+     * 대기자에게 전달할 응답 사본.
+     */
+    private record SharedResponse(int status, HttpHeaders headers, byte[] body) {
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || hasAny(exchange, config.getBypassHeaders())) {
+                return chain.filter(exchange);
+            }
+
+            String key = key(exchange, config);
+            Flight leader = new Flight();
+            Flight existing = flights.putIfAbsent(key, leader);
+            if (existing == null) {
+                count("forwarded");
+                return lead(exchange, chain, config, key, leader);
+            }
+
+            if (existing.waiters.incrementAndGet() > config.getMaxWaiters()) {
+                existing.waiters.decrementAndGet();
+                count("overflow");
+                return chain.filter(exchange);
+            }
+
+            count("coalesced");
+            return existing.result.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(shared -> {
+                        if (shared.isPresent()) {
+                            return write(exchange, shared.get());
+                        }
+                        count("fallback");
+                        return chain.filter(exchange);
+                    });
+        };
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                            String key, Flight flight) {
+        ServerHttpResponse original = exchange.getResponse();
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(Flux.from(body))
+                        .flatMap(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            HttpStatusCode status = getStatusCode();
+                            if (isShareable(status) && bytes.length <= config.getMaxBodyBytes()) {
+                                complete(key, flight, new SharedResponse(status.value(),
+                                        CachedResponse.snapshotHeaders(getHeaders()), bytes));
+                            }
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> complete(key, flight, null));
+    }
+
+    /**
+     * 조건부 요청 헤더는 upstream 응답(200/304)을 바꾸므로 항상 키에 포함합니다.
+     */
+    private String key(ServerWebExchange exchange, Config config) {
+        List<String> headers = new ArrayList<>(CONDITIONAL_HEADERS);
+        headers.addAll(config.getVaryHeaders());
+        return RequestKeys.of(exchange, headers);
+    }
+
+    private boolean hasAny(ServerWebExchange exchange, List<String> headers) {
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        return headers.stream().anyMatch(requestHeaders::containsHeader);
+    }
+
+    /**
+     * 200/304만 대기자와 공유합니다 (오류 응답은 대기자가 각자 upstream으로 재시도).
+     */
+    private boolean isShareable(HttpStatusCode status) {
+        return status != null && (status.value() == 200 || status.value() == 304);
+    }
+
+    /**
+     * 진행 중 목록에서 제거한 뒤 대기자에게 결과를 전달합니다 (null이면 각자 upstream으로).
+     * 제거 이후 도착한 요청은 새 flight를 시작합니다.
+     */
+    private void complete(String key, Flight flight, SharedResponse shared) {
+        flights.remove(key, flight);
+        if (shared != null) {
+            flight.result.tryEmitValue(shared);
+        } else {
+            flight.result.tryEmitEmpty();
+        }
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(shared.status()));
+        response.getHeaders().addAll(shared.headers());
+        response.getHeaders().setContentLength(shared.body().length);
+        response.getHeaders().set(COALESCED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("gateway.single_flight.requests", "result", result).increment();
+    }
+}
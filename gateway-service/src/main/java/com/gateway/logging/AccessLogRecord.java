@@ -0,0 +1,31 @@
+package com.gateway.logging;
+
+/**
+ * 요청 1건의 접근 로그 레코드.
+ *
+ * @param requestId 요청 ID
+ * @param routeId 라우트 ID
+ * @param method HTTP 메서드
+ * @param path 요청 경로
+ * @param status 응답 상태 코드 (없으면 0)
+ * @param latencyMillis 필터 진입부터 응답 완료까지 걸린 시간 (ms)
+ * @param bytes 응답 본문 바이트 수
+ */
+public record AccessLogRecord(String requestId, String routeId, String method, String path,
+                              int status, long latencyMillis, long bytes) {
+
+    /**
+     * 한 줄 key=value 형식으로 변환.
+     *
+     * @return 로그 라인
+     */
+    public String format() {
+        return "id=" + requestId
+                + " route=" + routeId
+                + " method=" + method
+                + " path=" + path
+                + " status=" + status
+                + " latency_ms=" + latencyMillis
+                + " bytes=" + bytes;
+    }
+}
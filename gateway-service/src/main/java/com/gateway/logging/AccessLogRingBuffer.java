@@ -0,0 +1,84 @@
+package com.gateway.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자/단일 소비자용 고정 크기 링 버퍼 (락 없음).
+ * 생산자는 CAS로 슬롯을 예약한 뒤 값을 기록하고, 버퍼가 가득 차면 기다리지 않고 버립니다.
+ * 소비자는 예약 순서대로 기록이 끝난 슬롯까지만 꺼냅니다.
+ *
+ * @param <T> 원소 타입
+ */
+class AccessLogRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 링 버퍼 생성.
+     *
+     * @param capacity 용량 (2의 거듭제곱으로 올림)
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 원소 추가 (여러 스레드에서 호출 가능).
+     *
+     * @param element 원소
+     * @return 버퍼가 가득 차 버려졌으면 false
+     */
+    boolean offer(T element) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() > mask) {
+                return false;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                slots.lazySet((int) (t & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 쌓인 원소를 최대 limit개 꺼냅니다 (단일 소비자 스레드에서만 호출).
+     *
+     * @param consumer 원소 처리 함수
+     * @param limit 최대 처리 개수
+     * @return 처리한 개수
+     */
+    int drain(Consumer<T> consumer, int limit) {
+        long h = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int idx = (int) (h & mask);
+            T element = slots.get(idx);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(idx, null);
+            h++;
+            head.lazySet(h);
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 용량.
+     *
+     * @return 슬롯 수
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
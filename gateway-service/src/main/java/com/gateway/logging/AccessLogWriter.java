@@ -0,0 +1,100 @@
+package com.gateway.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 접근 로그 기록기.
+ * 이벤트 루프 스레드는 레코드를 링 버퍼에 넣기만 하고, 별도 데몬 스레드가 모아서 "access" 로거로 기록합니다.
+ * 버퍼가 가득 차면 요청을 지연시키지 않고 레코드를 버리며, 버린 개수는 gateway.access_log.dropped 메트릭으로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private static final int DRAIN_BATCH = 256;
+
+    private final AccessLogRingBuffer<AccessLogRecord> buffer;
+    private final Counter dropped;
+    private final long idleParkNanos;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * 접근 로그 기록기 생성.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param bufferSize 링 버퍼 크기
+     * @param idleParkMillis 버퍼가 비었을 때 대기 시간 (ms)
+     */
+    public AccessLogWriter(MeterRegistry meterRegistry,
+                           @Value("${access-log.buffer-size:8192}") int bufferSize,
+                           @Value("${access-log.idle-park-millis:10}") long idleParkMillis) {
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.dropped = Counter.builder("gateway.access_log.dropped")
+                .register(meterRegistry);
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMillis);
+    }
+
+    /**
+     * 기록 스레드 시작.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Access log writer started: bufferSize={}", buffer.capacity());
+    }
+
+    /**
+     * 기록 스레드 종료 (남은 레코드는 기록 후 종료).
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 레코드 추가 (논블로킹).
+     *
+     * @param record 접근 로그 레코드
+     */
+    public void submit(AccessLogRecord record) {
+        if (!buffer.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+        while (drain() > 0) {
+            // 종료 전 남은 레코드 기록
+        }
+    }
+
+    private int drain() {
+        return buffer.drain(record -> ACCESS_LOG.info(record.format()), DRAIN_BATCH);
+    }
+}
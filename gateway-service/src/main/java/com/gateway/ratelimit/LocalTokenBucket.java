@@ -0,0 +1,87 @@
+package com.gateway.ratelimit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷.
+ * 요청마다 토큰 1개를 소비하고, 마지막 동기화 이후 소비량을 모아 두었다가
+ * {@link RateLimiterRegistry}가 Redis에 반영합니다.
+ * 클러스터 전체 소비량이 한도를 넘으면 현재 윈도우가 끝날 때까지 차단됩니다.
+ */
+public class LocalTokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long replenishRate;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+    private long unsynced;
+
+    /**
+     * 토큰 버킷 생성 (가득 찬 상태로 시작).
+     *
+     * @param replenishRate 초당 충전 토큰 수
+     * @param burstCapacity 최대 토큰 수
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public LocalTokenBucket(long replenishRate, long burstCapacity, long nowNanos) {
+        this.replenishRate = replenishRate;
+        this.capacity = burstCapacity;
+        this.tokensPerNano = (double) replenishRate / NANOS_PER_SECOND;
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 1개 소비 시도.
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 허용이면 0, 거부면 다음 토큰까지 남은 시간 (ns)
+     */
+    public synchronized long tryConsume(long nowNanos) {
+        if (nowNanos < blockedUntilNanos) {
+            return blockedUntilNanos - nowNanos;
+        }
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            unsynced++;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    /**
+     * 마지막 동기화 이후 소비량을 반환하고 0으로 초기화합니다.
+     *
+     * @return 소비한 토큰 수
+     */
+    public synchronized long drainUnsynced() {
+        long consumed = unsynced;
+        unsynced = 0;
+        return consumed;
+    }
+
+    /**
+     * 클러스터 한도 초과로 주어진 시각까지 차단합니다.
+     *
+     * @param untilNanos 차단 해제 시각 (System.nanoTime)
+     */
+    public synchronized void blockUntil(long untilNanos) {
+        blockedUntilNanos = Math.max(blockedUntilNanos, untilNanos);
+        tokens = 0;
+    }
+
+    /**
+     * 윈도우당 클러스터 전체 허용량.
+     *
+     * @param windowMillis 동기화 윈도우 길이 (ms)
+     * @return 허용 토큰 수
+     */
+    public long allowancePerWindow(long windowMillis) {
+        return replenishRate * windowMillis / 1000 + (long) capacity;
+    }
+}
@@ -0,0 +1,127 @@
+package com.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트/클라이언트별 로컬 토큰 버킷 저장소.
+ * 요청 경로에서는 Redis를 호출하지 않고, sync-interval마다 각 버킷의 소비량을
+ * 고정 윈도우 카운터(ratelimit:{키}:{윈도우})에 INCRBY로 합산합니다.
+ * 클러스터 합계가 윈도우 허용량을 넘으면 해당 버킷을 윈도우 끝까지 차단하므로,
+ * 전체 한도는 동기화 주기만큼의 오차 안에서 지켜집니다.
+ */
+@Component
+@Slf4j
+public class RateLimiterRegistry {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Cache<String, LocalTokenBucket> buckets;
+
+    @Value("${rate-limit.sync-interval:1s}")
+    private Duration syncInterval;
+
+    @Value("${rate-limit.window:10s}")
+    private Duration window;
+
+    private Disposable syncTask;
+
+    /**
+     * 토큰 버킷 저장소 생성.
+     *
+     * @param redisTemplate Redis 템플릿
+     * @param maximumBuckets 최대 버킷 수
+     */
+    public RateLimiterRegistry(ReactiveStringRedisTemplate redisTemplate,
+                               @Value("${rate-limit.maximum-buckets:100000}") long maximumBuckets) {
+        this.redisTemplate = redisTemplate;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * 주기적 Redis 동기화 시작.
+     */
+    @PostConstruct
+    public void start() {
+        syncTask = Flux.interval(syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> syncAll()
+                        .onErrorResume(e -> {
+                            log.warn("Rate limit 동기화 실패 (로컬 버킷만으로 동작): {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    /**
+     * 동기화 중지.
+     */
+    @PreDestroy
+    public void stop() {
+        if (syncTask != null) {
+            syncTask.dispose();
+        }
+    }
+
+    /**
+     * 토큰 1개 소비 시도.
+     *
+     * @param key 버킷 키 (라우트 + 클라이언트)
+     * @param replenishRate 초당 충전 토큰 수
+     * @param burstCapacity 최대 토큰 수
+     * @return 허용이면 0, 거부면 재시도까지 남은 시간 (ns)
+     */
+    public long tryConsume(String key, long replenishRate, long burstCapacity) {
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new LocalTokenBucket(replenishRate, burstCapacity, now))
+                .tryConsume(now);
+    }
+
+    private Mono<Void> syncAll() {
+        long windowMillis = window.toMillis();
+        long nowMillis = System.currentTimeMillis();
+        long windowIndex = nowMillis / windowMillis;
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis - nowMillis % windowMillis);
+
+        return Flux.fromIterable(buckets.asMap().entrySet())
+                .flatMap(entry -> sync(entry, windowIndex, windowMillis, remainingNanos), 16)
+                .then();
+    }
+
+    private Mono<Void> sync(Map.Entry<String, LocalTokenBucket> entry, long windowIndex,
+                            long windowMillis, long remainingNanos) {
+        LocalTokenBucket bucket = entry.getValue();
+        long consumed = bucket.drainUnsynced();
+        if (consumed == 0) {
+            return Mono.empty();
+        }
+
+        String redisKey = KEY_PREFIX + entry.getKey() + ":" + windowIndex;
+        return redisTemplate.opsForValue().increment(redisKey, consumed)
+                .flatMap(total -> {
+                    if (total > bucket.allowancePerWindow(windowMillis)) {
+                        bucket.blockUntil(System.nanoTime() + remainingNanos);
+                    }
+                    if (total == consumed) {
+                        return redisTemplate.expire(redisKey, window.multipliedBy(2)).then();
+                    }
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,207 @@
+package com.gateway.security;
+
+import com.common.security.TokenEpoch;
+import com.common.security.TokenRevocation;
+import com.common.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 로그아웃 블랙리스트 로컬 캐시 (Near-cache).
+ * user-service가 발행하는 {@link TokenRevocation}/{@link TokenEpoch} 이벤트를 구독해
+ * 폐기된 토큰 식별자(만료 시각까지)와 사용자별 토큰 에포크를 보관하고,
+ * 동기화된 동안에는 "폐기되지 않음" 응답을 Redis 왕복 없이 반환합니다.
+ *
+ * <p>구독이 성립하면 폐기 인덱스(ZSET)와 에포크(HASH) 스냅샷을 적재한 뒤 동기화 상태가 됩니다.
+ * 기동 직후나 구독이 끊긴 동안에는 기존처럼 Redis에 직접 조회하며, 구독은 백오프로 재시도합니다.
+ * 연결 재수립 중 유실된 메시지를 보정하기 위해 주기적으로 스냅샷을 다시 적재합니다.
+ */
+@Component
+@Slf4j
+public class TokenBlacklistNearCache {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Long> revoked;
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+    private final AtomicBoolean synced = new AtomicBoolean(false);
+    private final Counter localLookups;
+    private final Counter redisLookups;
+
+    @Value("${token.blacklist.resync-interval:1m}")
+    private Duration resyncInterval;
+
+    @Value("${token.blacklist.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    private Disposable subscription;
+
+    /**
+     * 블랙리스트 Near-cache 생성.
+     *
+     * @param redisTemplate Redis 템플릿 (폴백 조회 및 스냅샷 적재)
+     * @param connectionFactory Pub/Sub 구독용 커넥션 팩토리
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public TokenBlacklistNearCache(ReactiveStringRedisTemplate redisTemplate,
+                                   ReactiveRedisConnectionFactory connectionFactory,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = new ReactiveRedisMessageListenerContainer(connectionFactory);
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.localLookups = Counter.builder("token.blacklist.lookups")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.redisLookups = Counter.builder("token.blacklist.lookups")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        Gauge.builder("token.blacklist.size", revoked, Cache::estimatedSize)
+                .register(meterRegistry);
+        Gauge.builder("token.blacklist.synced", synced, s -> s.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 폐기 이벤트 구독 시작.
+     */
+    @PostConstruct
+    public void start() {
+        ChannelTopic revocations = ChannelTopic.of(TokenRevocation.CHANNEL);
+        ChannelTopic epochChanges = ChannelTopic.of(TokenEpoch.CHANNEL);
+        subscription = listenerContainer.receiveLater(revocations, epochChanges)
+                .flatMapMany(messages -> Flux.merge(
+                        messages.doOnNext(this::onMessage).then(),
+                        Flux.interval(Duration.ZERO, resyncInterval)
+                                .concatMap(tick -> loadSnapshot())))
+                .doOnError(e -> {
+                    synced.set(false);
+                    log.warn("토큰 폐기 이벤트 구독이 끊겼습니다. Redis 직접 조회로 전환합니다: {}", e.getMessage());
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(maxBackoff))
+                .subscribe();
+    }
+
+    /**
+     * 구독 해제.
+     */
+    @PreDestroy
+    public void stop() {
+        synced.set(false);
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        listenerContainer.destroyLater().subscribe();
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (토큰 단위 블랙리스트 또는 사용자 에포크).
+     * 동기화 상태면 로컬에서 바로 응답하고, 아니면 Redis에 조회합니다.
+     *
+     * @param token 서명 검증된 토큰 클레임
+     * @return 폐기 여부
+     */
+    public Mono<Boolean> isRevoked(VerifiedToken token) {
+        if (synced.get()) {
+            localLookups.increment();
+            return Mono.just(revoked.getIfPresent(token.tokenId()) != null
+                    || token.isBefore(epochs.getOrDefault(token.userId(), 0L)));
+        }
+        redisLookups.increment();
+        Mono<Boolean> blacklisted = redisTemplate.hasKey(TokenRevocation.keyOf(token.tokenId()));
+        Mono<Long> epoch = redisTemplate.<String, String>opsForHash()
+                .get(TokenEpoch.KEY, String.valueOf(token.userId()))
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L);
+        return Mono.zip(blacklisted, epoch, (listed, current) -> listed || token.isBefore(current));
+    }
+
+    /**
+     * 현재 로컬 블랙리스트로 응답 중인지 여부.
+     *
+     * @return 동기화 여부
+     */
+    public boolean isSynced() {
+        return synced.get();
+    }
+
+    private void onMessage(ReactiveSubscription.Message<String, String> message) {
+        try {
+            if (TokenEpoch.CHANNEL.equals(message.getChannel())) {
+                TokenEpoch change = TokenEpoch.decode(message.getMessage());
+                epochs.merge(change.userId(), change.epoch(), Math::max);
+            } else {
+                TokenRevocation revocation = TokenRevocation.decode(message.getMessage());
+                revoked.put(revocation.tokenId(), revocation.expiresAtMillis());
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("토큰 폐기 메시지를 해석할 수 없습니다: channel={}, message={}",
+                    message.getChannel(), message.getMessage());
+        }
+    }
+
+    private Mono<Void> loadSnapshot() {
+        Range<Double> unexpired = Range.rightUnbounded(Range.Bound.inclusive((double) System.currentTimeMillis()));
+        Mono<Void> revokedTokens = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(TokenRevocation.INDEX_KEY, unexpired)
+                .doOnNext(tuple -> revoked.put(tuple.getValue(), tuple.getScore().longValue()))
+                .then();
+        Mono<Void> userEpochs = redisTemplate.<String, String>opsForHash()
+                .entries(TokenEpoch.KEY)
+                .doOnNext(e -> epochs.merge(Long.parseLong(e.getKey()), Long.parseLong(e.getValue()), Math::max))
+                .then();
+        return Mono.when(revokedTokens, userEpochs)
+                .doOnSuccess(v -> {
+                    if (synced.compareAndSet(false, true)) {
+                        log.info("토큰 블랙리스트 동기화 완료: tokens={}, users={}",
+                                revoked.estimatedSize(), epochs.size());
+                    }
+                });
+    }
+
+    /**
+     * 항목 수명을 토큰 만료 시각까지로 맞추는 만료 정책.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.gateway.filter;
+
+import com.common.security.VerifiedToken;
+import com.common.util.JwtUtil;
+import com.gateway.security.TokenBlacklistNearCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * AuthorizationHeaderFilter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthorizationHeaderFilterTest {
+
+    @Mock
+    private TokenBlacklistNearCache blacklist;
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil.init("test-secret-key-for-gateway-unit-test-0123456789", 3_600_000L, 86_400_000L);
+        filter = new AuthorizationHeaderFilter(blacklist).apply(new AuthorizationHeaderFilter.Config());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - X-User-Id 헤더를 붙여 전달")
+    void apply_Success() {
+        // given
+        String token = JwtUtil.generateAccessToken(1L, 0L);
+        given(blacklist.isRevoked(any(VerifiedToken.class))).willReturn(Mono.just(false));
+        given(chain.filter(any(ServerWebExchange.class))).willReturn(Mono.empty());
+
+        // when
+        filter.filter(exchange(token), chain).block();
+
+        // then
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        verify(chain).filter(captor.capture());
+        assertThat(captor.getValue().getRequest().getHeaders().getFirst("X-User-Id")).isEqualTo("1");
+        assertThat(captor.getValue().<Long>getAttribute(AuthorizationHeaderFilter.USER_ID_ATTR)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰(jti 블랙리스트 또는 이전 에포크) - 401")
+    void apply_Fail_Revoked() {
+        // given
+        String token = JwtUtil.generateAccessToken(1L, 0L);
+        given(blacklist.isRevoked(any(VerifiedToken.class))).willReturn(Mono.just(true));
+        MockServerWebExchange exchange = exchange(token);
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("폐기 확인에는 토큰의 jti와 에포크 클레임을 전달")
+    void apply_PassesTokenIdAndEpoch() {
+        // given
+        String token = JwtUtil.generateAccessToken(1L, 3L);
+        given(blacklist.isRevoked(any(VerifiedToken.class))).willReturn(Mono.just(true));
+
+        // when
+        filter.filter(exchange(token), chain).block();
+
+        // then
+        ArgumentCaptor<VerifiedToken> captor = ArgumentCaptor.forClass(VerifiedToken.class);
+        verify(blacklist).isRevoked(captor.capture());
+        assertThat(captor.getValue().tokenId()).isEqualTo(JwtUtil.verify(token).tokenId());
+        assertThat(captor.getValue().epoch()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("jti/에포크 클레임이 없는 구버전 토큰 - 다이제스트와 에포크 0으로 폐기 확인")
+    void apply_LegacyTokenWithoutClaims() {
+        // given
+        String token = JwtUtil.generateRefreshToken(1L);
+        given(blacklist.isRevoked(any(VerifiedToken.class))).willReturn(Mono.just(false));
+        given(chain.filter(any(ServerWebExchange.class))).willReturn(Mono.empty());
+
+        // when
+        filter.filter(exchange(token), chain).block();
+
+        // then
+        ArgumentCaptor<VerifiedToken> captor = ArgumentCaptor.forClass(VerifiedToken.class);
+        verify(blacklist).isRevoked(captor.capture());
+        assertThat(captor.getValue().tokenId()).isNotBlank();
+        assertThat(captor.getValue().epoch()).isZero();
+        verify(chain).filter(any(ServerWebExchange.class));
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더 없음 - 401")
+    void apply_Fail_NoToken() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/1"));
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("선택 인증 - 토큰 없는 요청은 클라이언트가 보낸 X-User-Id를 지우고 익명으로 전달")
+    void apply_Optional_Anonymous() {
+        // given
+        GatewayFilter optional = new AuthorizationHeaderFilter(blacklist).apply(optionalConfig());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/1")
+                .header("X-User-Id", "2"));
+        given(chain.filter(any(ServerWebExchange.class))).willReturn(Mono.empty());
+
+        // when
+        optional.filter(exchange, chain).block();
+
+        // then
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        verify(chain).filter(captor.capture());
+        assertThat(captor.getValue().getRequest().getHeaders().containsHeader("X-User-Id")).isFalse();
+        verify(blacklist, never()).isRevoked(any());
+    }
+
+    @Test
+    @DisplayName("선택 인증 - 폐기된 토큰을 보내면 401")
+    void apply_Optional_Fail_Revoked() {
+        // given
+        GatewayFilter optional = new AuthorizationHeaderFilter(blacklist).apply(optionalConfig());
+        given(blacklist.isRevoked(any(VerifiedToken.class))).willReturn(Mono.just(true));
+        MockServerWebExchange exchange = exchange(JwtUtil.generateAccessToken(1L, 0L));
+
+        // when
+        optional.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(chain, never()).filter(any());
+    }
+
+    private static AuthorizationHeaderFilter.Config optionalConfig() {
+        AuthorizationHeaderFilter.Config config = new AuthorizationHeaderFilter.Config();
+        config.setRequired(false);
+        return config;
+    }
+
+    private static MockServerWebExchange exchange(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
@@ -0,0 +1,73 @@
+package com.gateway.filter;
+
+import com.gateway.logging.AccessLogRecord;
+import com.gateway.logging.AccessLogWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LoggingFilter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoggingFilterTest {
+
+    @Mock
+    private AccessLogWriter accessLogWriter;
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoggingFilter(accessLogWriter).apply(new LoggingFilter.Config());
+    }
+
+    @Test
+    @DisplayName("라우트 필터 중 가장 먼저 실행되어 체인 전체를 감쌈")
+    void apply_HighestPrecedence() {
+        // then
+        assertThat(((OrderedGatewayFilter) filter).getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Test
+    @DisplayName("뒤쪽 필터가 직접 끝낸 응답(429 등)도 기록")
+    void filter_RecordsShortCircuitedResponse() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/1"));
+        given(chain.filter(any(ServerWebExchange.class))).willAnswer(invocation -> {
+            ServerWebExchange mutated = invocation.getArgument(0);
+            mutated.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return mutated.getResponse().setComplete();
+        });
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        ArgumentCaptor<AccessLogRecord> captor = ArgumentCaptor.forClass(AccessLogRecord.class);
+        verify(accessLogWriter).submit(captor.capture());
+        assertThat(captor.getValue().status()).isEqualTo(429);
+        assertThat(captor.getValue().path()).isEqualTo("/api/posts/1");
+    }
+}
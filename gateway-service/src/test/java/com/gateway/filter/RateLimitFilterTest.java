@@ -0,0 +1,75 @@
+package com.gateway.filter;
+
+import com.gateway.ratelimit.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RateLimitFilter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiterRegistry registry;
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private RateLimitFilter filterFactory;
+
+    @BeforeEach
+    void setUp() {
+        filterFactory = new RateLimitFilter(registry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("한도 초과 - 429와 다음 토큰까지 남은 초(올림)를 Retry-After로 반환")
+    void apply_Rejected() {
+        // given
+        given(registry.tryConsume(anyString(), anyLong(), anyLong())).willReturn(TimeUnit.MILLISECONDS.toNanos(1500));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/posts/1"));
+
+        // when
+        filterFactory.apply(new RateLimitFilter.Config()).filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("replenishRate가 0 이하면 라우트 바인딩 시 거부")
+    void apply_Fail_NonPositiveReplenishRate() {
+        // given
+        RateLimitFilter.Config config = new RateLimitFilter.Config();
+        config.setReplenishRate(0);
+
+        // when & then
+        assertThatThrownBy(() -> filterFactory.apply(config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("replenishRate");
+    }
+}
@@ -0,0 +1,136 @@
+package com.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SingleFlightFilter 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightFilterTest {
+
+    @Mock
+    private GatewayFilterChain chain;
+
+    private GatewayFilter filter;
+
+    /** 선행 요청의 upstream 응답 시점을 제어합니다. */
+    private Sinks.Empty<Void> upstream;
+
+    @BeforeEach
+    void setUp() {
+        SingleFlightFilter.Config config = new SingleFlightFilter.Config();
+        config.setBypassHeaders(List.of(HttpHeaders.AUTHORIZATION));
+        filter = new SingleFlightFilter(new SimpleMeterRegistry()).apply(config);
+        upstream = Sinks.empty();
+    }
+
+    @Test
+    @DisplayName("동일 요청 - 선행 요청의 200 응답을 대기자와 공유, 조건부 헤더가 다르면 합치지 않음")
+    void apply_SharesOkResponse() {
+        // given
+        given(chain.filter(any(ServerWebExchange.class)))
+                .willAnswer(invocation -> upstream.asMono().then(respond(invocation.getArgument(0), HttpStatus.OK)));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/api/posts/1"));
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get("/api/posts/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+
+        // when
+        CompletableFuture<Void> leading = filter.filter(exchange(MockServerHttpRequest.get("/api/posts/1")), chain)
+                .toFuture();
+        CompletableFuture<Void> waiting = filter.filter(follower, chain).toFuture();
+        CompletableFuture<Void> separate = filter.filter(conditional, chain).toFuture();
+        upstream.tryEmitEmpty();
+        CompletableFuture.allOf(leading, waiting, separate).join();
+
+        // then
+        verify(chain, times(2)).filter(any(ServerWebExchange.class));
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(follower.getResponse().getHeaders().getFirst("X-Coalesced")).isEqualTo("true");
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("200");
+        assertThat(conditional.getResponse().getHeaders().containsHeader("X-Coalesced")).isFalse();
+    }
+
+    @Test
+    @DisplayName("선행 요청이 200/304가 아니면 공유하지 않고 대기자가 각자 upstream으로 전달")
+    void apply_DoesNotShareErrorResponse() {
+        // given
+        given(chain.filter(any(ServerWebExchange.class)))
+                .willAnswer(invocation -> upstream.asMono()
+                        .then(respond(invocation.getArgument(0), HttpStatus.SERVICE_UNAVAILABLE)))
+                .willAnswer(invocation -> respond(invocation.getArgument(0), HttpStatus.OK));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/api/posts/1"));
+
+        // when
+        CompletableFuture<Void> leading = filter.filter(exchange(MockServerHttpRequest.get("/api/posts/1")), chain)
+                .toFuture();
+        CompletableFuture<Void> waiting = filter.filter(follower, chain).toFuture();
+        upstream.tryEmitEmpty();
+        CompletableFuture.allOf(leading, waiting).join();
+
+        // then
+        verify(chain, times(2)).filter(any(ServerWebExchange.class));
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(follower.getResponse().getHeaders().containsHeader("X-Coalesced")).isFalse();
+    }
+
+    @Test
+    @DisplayName("bypassHeaders(Authorization)가 있는 요청은 합치지 않고 바로 전달")
+    void apply_BypassesAuthenticatedRequests() {
+        // given
+        given(chain.filter(any(ServerWebExchange.class)))
+                .willAnswer(invocation -> upstream.asMono().then(respond(invocation.getArgument(0), HttpStatus.OK)));
+
+        // when
+        CompletableFuture<Void> first = filter.filter(exchange(MockServerHttpRequest.get("/api/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer a")), chain).toFuture();
+        CompletableFuture<Void> second = filter.filter(exchange(MockServerHttpRequest.get("/api/posts/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer b")), chain).toFuture();
+        upstream.tryEmitEmpty();
+        CompletableFuture.allOf(first, second).join();
+
+        // then
+        verify(chain, times(2)).filter(any(ServerWebExchange.class));
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    /**
+     * upstream 응답을 흉내 내어 상태 코드를 본문으로 씁니다.
+     */
+    private Mono<Void> respond(ServerWebExchange exchange, HttpStatus status) {
+        return Mono.defer(() -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            byte[] body = String.valueOf(status.value()).getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        });
+    }
+}
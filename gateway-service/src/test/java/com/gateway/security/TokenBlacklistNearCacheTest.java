@@ -0,0 +1,111 @@
+package com.gateway.security;
+
+import java.time.Instant;
+
+import com.common.security.TokenEpoch;
+import com.common.security.TokenRevocation;
+import com.common.security.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * TokenBlacklistNearCache 단위 테스트 (구독 동기화 전 Redis 직접 조회 경로).
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistNearCacheTest {
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    private ReactiveRedisConnectionFactory connectionFactory;
+
+    @Mock
+    private ReactiveHashOperations<String, String, String> hashOperations;
+
+    private TokenBlacklistNearCache blacklist;
+
+    @BeforeEach
+    void setUp() {
+        blacklist = new TokenBlacklistNearCache(redisTemplate, connectionFactory, new SimpleMeterRegistry());
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("현재 에포크보다 이전 에포크로 발급된 토큰은 폐기됨")
+    void isRevoked_StaleEpoch() {
+        // given
+        VerifiedToken token = token("jti-1", 1L);
+        given(redisTemplate.hasKey(TokenRevocation.keyOf("jti-1"))).willReturn(Mono.just(false));
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn(Mono.just("2"));
+
+        // when & then
+        assertThat(blacklist.isRevoked(token).block()).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 에포크로 발급된 토큰은 유효")
+    void isRevoked_CurrentEpoch() {
+        // given
+        VerifiedToken token = token("jti-1", 2L);
+        given(redisTemplate.hasKey(TokenRevocation.keyOf("jti-1"))).willReturn(Mono.just(false));
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn(Mono.just("2"));
+
+        // when & then
+        assertThat(blacklist.isRevoked(token).block()).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 폐기된 토큰 식별자(jti)는 폐기됨")
+    void isRevoked_RevokedTokenId() {
+        // given
+        VerifiedToken token = token("jti-1", 0L);
+        given(redisTemplate.hasKey(TokenRevocation.keyOf("jti-1"))).willReturn(Mono.just(true));
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn(Mono.empty());
+
+        // when & then
+        assertThat(blacklist.isRevoked(token).block()).isTrue();
+    }
+
+    @Test
+    @DisplayName("jti/에포크 클레임이 없는 구버전 토큰은 다이제스트와 에포크 0으로 확인 (저장된 에포크 없음)")
+    void isRevoked_LegacyTokenWithoutClaims() {
+        // given
+        VerifiedToken token = token("digest", 0L);
+        given(redisTemplate.hasKey(TokenRevocation.keyOf("digest"))).willReturn(Mono.just(false));
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn(Mono.empty());
+
+        // when & then
+        assertThat(blacklist.isRevoked(token).block()).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 이후에는 에포크 클레임이 없는 구버전 토큰도 폐기됨")
+    void isRevoked_LegacyTokenAfterLogoutAll() {
+        // given
+        VerifiedToken token = token("digest", 0L);
+        given(redisTemplate.hasKey(TokenRevocation.keyOf("digest"))).willReturn(Mono.just(false));
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn(Mono.just("1"));
+
+        // when & then
+        assertThat(blacklist.isRevoked(token).block()).isTrue();
+    }
+
+    private static VerifiedToken token(String tokenId, long epoch) {
+        Instant now = Instant.now();
+        return new VerifiedToken(1L, tokenId, epoch, now, now.plusSeconds(3600));
+    }
+}
@@ -19,10 +19,13 @@ import com.userservice.dto.MyInfoResponse;
 import com.userservice.dto.SignUpRequest;
 import com.userservice.dto.TokenReissueRequest;
 import com.userservice.dto.UpdateUserRequest;
+import com.userservice.dto.UserBatchRequest;
 import com.userservice.dto.UpdateUserResponse;
 import com.userservice.dto.UserResponse;
 import com.userservice.service.UserService;
 
+import java.util.List;
+
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -91,6 +94,20 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 사용자 정보 일괄 조회 API (내부 통신용).
+     * 목록 화면에서 작성자 이름을 한 번의 호출로 조회하기 위해 사용합니다.
+     *
+     * @param request 조회할 사용자 ID 목록
+     * @return ApiResponse{@code <List<UserResponse>>}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsers(@Valid @RequestBody UserBatchRequest request) {
+        log.info("POST /api/users/batch - 사용자 정보 일괄 조회 요청: size={}", request.getIds().size());
+        List<UserResponse> responses = userService.getUsers(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
     /**
      * 사용자 정보 수정 API.
      *
@@ -169,4 +186,18 @@ public class UserController {
         userService.logout(userId, accessToken);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    /**
+     * 모든 기기 로그아웃 API.
+     * 사용자 토큰 에포크를 올려 이전에 발급된 모든 Access Token을 폐기합니다.
+     *
+     * @param userId 인증된 사용자 ID
+     * @return ApiResponse{@code <Void>}
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal Long userId) {
+        log.info("POST /api/users/logout-all - 전체 로그아웃 요청: userId={}", userId);
+        userService.logoutAll(userId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
 }
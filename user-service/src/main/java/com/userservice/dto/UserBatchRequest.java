@@ -0,0 +1,28 @@
+package com.userservice.dto;
+
+import com.common.dto.UserDto;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 사용자 일괄 조회 요청 DTO (내부 통신용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchRequest {
+
+    /**
+     * 조회할 사용자 ID 목록 (중복 제거)
+     */
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = UserDto.MAX_BATCH_IDS, message = "한 번에 최대 1000명까지 조회할 수 있습니다")
+    private Set<Long> ids;
+}
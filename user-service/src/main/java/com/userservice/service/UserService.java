@@ -1,7 +1,10 @@
 package com.userservice.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,6 +13,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.common.security.TokenEpoch;
+import com.common.security.TokenRevocation;
+import com.common.security.VerifiedToken;
 import com.common.type.UserRole;
 import com.common.util.JwtUtil;
 import com.userservice.dto.LoginRequest;
@@ -106,6 +112,20 @@ public class UserService {
         return UserResponse.from(user);
     }
 
+    /**
+     * 사용자 정보 일괄 조회 (내부 통신용).
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return UserResponse 목록
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponse> getUsers(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 로그인.
      *
@@ -131,7 +151,7 @@ public class UserService {
         }
 
         // Access Token 생성
-        String accessToken = JwtUtil.generateAccessToken(user.getId());
+        String accessToken = JwtUtil.generateAccessToken(user.getId(), currentTokenEpoch(user.getId()));
 
         // Refresh Token 생성 및 저장
         String refreshToken = JwtUtil.generateRefreshToken(user.getId());
@@ -179,7 +199,7 @@ public class UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 4. 새로운 Access Token 발급
-        String newAccessToken = JwtUtil.generateAccessToken(user.getId());
+        String newAccessToken = JwtUtil.generateAccessToken(user.getId(), currentTokenEpoch(user.getId()));
 
         // (선택사항) Refresh Token Rotation: 리프레시 토큰도 새로 발급해서 교체할 수 있음.
         // 여기서는 Access Token만 재발급하고 Refresh Token은 유지합니다.
@@ -201,15 +221,57 @@ public class UserService {
         // 1. Refresh Token 삭제
         refreshTokenRepository.deleteByUserId(userId);
 
-        // 2. Access Token 블랙리스트 추가 (남은 유효시간만큼)
+        // 2. Access Token 블랙리스트 추가 (토큰 식별자만, 남은 유효시간만큼)
         Long expiration = JwtUtil.getExpiration(accessToken);
         if (expiration > 0) {
-            redisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
+            String tokenId = JwtUtil.verify(accessToken).tokenId();
+            redisTemplate.opsForValue().set(TokenRevocation.keyOf(tokenId), "logout", expiration, TimeUnit.MILLISECONDS);
+            publishRevocation(tokenId, expiration);
         }
 
         log.info("로그아웃 성공: userId={}", userId);
     }
 
+    /**
+     * 모든 기기 로그아웃.
+     * 사용자 토큰 에포크를 올려 이전에 발급된 Access Token을 모두 폐기합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void logoutAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+
+        Long epoch = redisTemplate.opsForHash().increment(TokenEpoch.KEY, String.valueOf(userId), 1);
+        redisTemplate.convertAndSend(TokenEpoch.CHANNEL, new TokenEpoch(userId, epoch).encode());
+
+        log.info("전체 로그아웃 성공: userId={}, epoch={}", userId, epoch);
+    }
+
+    /**
+     * 사용자의 현재 토큰 에포크 (없으면 0).
+     */
+    private long currentTokenEpoch(Long userId) {
+        Object epoch = redisTemplate.opsForHash().get(TokenEpoch.KEY, String.valueOf(userId));
+        return epoch != null ? Long.parseLong(epoch.toString()) : 0L;
+    }
+
+    /**
+     * Gateway 로컬 블랙리스트 갱신을 위해 폐기 인덱스에 기록하고 이벤트를 발행합니다.
+     * 인덱스는 Gateway 구독 (재)시작 시 스냅샷으로 사용되며, 만료된 항목은 이때 함께 정리합니다.
+     *
+     * @param tokenId    토큰 식별자 (jti)
+     * @param expiration 남은 유효시간 (ms)
+     */
+    private void publishRevocation(String tokenId, long expiration) {
+        long now = System.currentTimeMillis();
+        TokenRevocation revocation = new TokenRevocation(tokenId, now + expiration);
+
+        redisTemplate.opsForZSet().add(TokenRevocation.INDEX_KEY, revocation.tokenId(), revocation.expiresAtMillis());
+        redisTemplate.opsForZSet().removeRangeByScore(TokenRevocation.INDEX_KEY, 0, now);
+        redisTemplate.convertAndSend(TokenRevocation.CHANNEL, revocation.encode());
+    }
+
     /**
      * 토큰 검증 및 사용자 정보 반환.
      *
@@ -223,13 +285,14 @@ public class UserService {
             throw new InvalidCredentialsException("유효하지 않은 토큰입니다.");
         }
         
-        // 2. 블랙리스트 확인
-        String blacklisted = redisTemplate.opsForValue().get(token);
-        if (StringUtils.hasText(blacklisted)) {
-             throw new InvalidCredentialsException("로그아웃된 토큰입니다.");
+        // 2. 블랙리스트 및 사용자 토큰 에포크 확인
+        VerifiedToken verified = JwtUtil.verify(token);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(TokenRevocation.keyOf(verified.tokenId())))
+                || verified.isBefore(currentTokenEpoch(verified.userId()))) {
+            throw new InvalidCredentialsException("로그아웃된 토큰입니다.");
         }
 
-        Long userId = JwtUtil.getUserId(token);
+        Long userId = verified.userId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
@@ -1,5 +1,9 @@
 package com.userservice.service;
 
+import com.common.security.TokenEpoch;
+import com.common.security.TokenRevocation;
+import com.common.type.UserRole;
+import com.common.util.JwtUtil;
 import com.userservice.dto.LoginRequest;
 import com.userservice.dto.LoginResponse;
 import com.userservice.dto.MyInfoResponse;
@@ -11,6 +15,7 @@ import com.userservice.entity.User;
 import com.userservice.exception.DuplicateEmailException;
 import com.userservice.exception.DuplicateUsernameException;
 import com.userservice.exception.InvalidCredentialsException;
+import com.userservice.repository.RefreshTokenRepository;
 import com.userservice.repository.UserRepository;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,9 +25,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,9 +50,18 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
     @InjectMocks
     private UserService userService;
 
@@ -53,6 +71,8 @@ class UserServiceTest {
 
     @BeforeEach
     void setUp() {
+        JwtUtil.init("test-secret-key-for-user-service-unit-test-0123456789", 3_600_000L, 86_400_000L);
+
         signUpRequest = SignUpRequest.builder()
                 .username("testuser")
                 .password("password123")
@@ -135,6 +155,7 @@ class UserServiceTest {
         // given
         given(userRepository.findByUsername(anyString())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
 
         // when
         LoginResponse response = userService.login(loginRequest);
@@ -142,7 +163,7 @@ class UserServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getAccessToken()).isNotNull();
-        assertThat(response.getTokenType()).isEqualTo("Bearer");
+        assertThat(response.getRefreshToken()).isNotNull();
 
         verify(userRepository).findByUsername("testuser");
         verify(passwordEncoder).matches("password123", "encodedPassword");
@@ -225,6 +246,30 @@ class UserServiceTest {
         verify(userRepository).findById(999L);
     }
 
+    @Test
+    @DisplayName("사용자 일괄 조회 성공 - 존재하지 않는 ID는 제외")
+    void getUsers_Success() {
+        // given
+        User user2 = User.builder()
+                .id(2L)
+                .username("testuser2")
+                .password("encodedPassword")
+                .email("test2@example.com")
+                .build();
+        Set<Long> ids = Set.of(1L, 2L, 999L);
+        given(userRepository.findAllById(ids)).willReturn(List.of(user, user2));
+
+        // when
+        List<UserResponse> responses = userService.getUsers(ids);
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses).extracting(UserResponse::getUsername)
+                .containsExactlyInAnyOrder("testuser", "testuser2");
+
+        verify(userRepository).findAllById(ids);
+    }
+
     @Test
     @DisplayName("사용자 정보 수정 성공 - 이메일만 변경")
     void updateUser_Success_EmailOnly() {
@@ -366,4 +411,88 @@ class UserServiceTest {
         verify(passwordEncoder, never()).matches(anyString(), anyString());
         verify(userRepository, never()).existsByEmail(anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("전체 로그아웃 - Refresh Token 삭제 후 토큰 에포크를 올리고 이벤트 발행")
+    void logoutAll_Success() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.increment(TokenEpoch.KEY, "1", 1)).willReturn(3L);
+
+        // when
+        userService.logoutAll(1L);
+
+        // then
+        verify(refreshTokenRepository).deleteByUserId(1L);
+        verify(redisTemplate).convertAndSend(TokenEpoch.CHANNEL, new TokenEpoch(1L, 3L).encode());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 현재 에포크보다 이전 에포크로 발급된 토큰")
+    void validateToken_Fail_StaleEpoch() {
+        // given
+        String token = JwtUtil.generateAccessToken(1L, 1L);
+        given(redisTemplate.hasKey(anyString())).willReturn(false);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn("2");
+
+        // when & then
+        assertThatThrownBy(() -> userService.validateToken(token))
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessageContaining("로그아웃된 토큰");
+
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 로그아웃으로 폐기된 토큰 식별자(jti)")
+    void validateToken_Fail_RevokedTokenId() {
+        // given
+        String token = JwtUtil.generateAccessToken(1L, 0L);
+        String tokenId = JwtUtil.verify(token).tokenId();
+        given(redisTemplate.hasKey(TokenRevocation.keyOf(tokenId))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> userService.validateToken(token))
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessageContaining("로그아웃된 토큰");
+
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - jti/에포크 클레임이 없는 구버전 토큰은 다이제스트와 에포크 0으로 확인")
+    void validateToken_Success_LegacyTokenWithoutClaims() {
+        // given
+        String token = JwtUtil.generateRefreshToken(1L);
+        given(redisTemplate.hasKey(anyString())).willReturn(false);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(userRepository.findById(1L)).willReturn(Optional.of(User.builder()
+                .id(1L)
+                .username("testuser")
+                .role(UserRole.USER)
+                .build()));
+
+        // when
+        com.common.dto.UserDto result = userService.validateToken(token);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(JwtUtil.verify(token).epoch()).isZero();
+        verify(hashOperations).get(TokenEpoch.KEY, "1");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 전체 로그아웃 이후 에포크 클레임이 없는 구버전 토큰")
+    void validateToken_Fail_LegacyTokenAfterLogoutAll() {
+        // given
+        String token = JwtUtil.generateRefreshToken(1L);
+        given(redisTemplate.hasKey(anyString())).willReturn(false);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get(TokenEpoch.KEY, "1")).willReturn("1");
+
+        // when & then
+        assertThatThrownBy(() -> userService.validateToken(token))
+                .isInstanceOf(InvalidCredentialsException.class);
+    }
+}